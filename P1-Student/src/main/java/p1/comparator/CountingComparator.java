@@ -1,6 +1,7 @@
 package p1.comparator;
 
 import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.tudalgo.algoutils.student.Student.crash;
 
@@ -10,6 +11,10 @@ import static org.tudalgo.algoutils.student.Student.crash;
  * The number of comparisons can be reset using the {@link #reset()} method.
  * <p>
  * The actual comparison is delegated to another {@link Comparator}.
+ * <p>
+ * By default, the comparisons are counted in a plain {@code long} field, so the {@link CountingComparator} must not be
+ * used by multiple threads at once. A concurrent {@link CountingComparator} counts in a {@link LongAdder} instead, which
+ * does not lose updates under contention. In both modes, the count does not overflow.
  *
  * @param <T>
  */
@@ -23,14 +28,38 @@ public class CountingComparator<T> implements Comparator<T> {
     /**
      * Number of comparisons made by the {@link #compare(Object, Object)} method.
      */
-    private int numberOfComparisons = 0;
+    private long numberOfComparisons = 0;
+
+    /**
+     * Number of comparisons made by the {@link #compare(Object, Object)} method if this comparator is concurrent,
+     * or {@code null} otherwise.
+     */
+    private final LongAdder concurrentComparisons;
 
     /**
      * Creates a new {@link CountingComparator} that delegates the actual comparison to the given {@link Comparator}.
      * @param delegate the {@link Comparator} that performs the actual comparison.
      */
     public CountingComparator(Comparator<T> delegate) {
+        this(delegate, false);
+    }
+
+    /**
+     * Creates a new {@link CountingComparator} that delegates the actual comparison to the given {@link Comparator}.
+     * @param delegate the {@link Comparator} that performs the actual comparison.
+     * @param concurrent whether the comparisons should be counted in a thread-safe way.
+     */
+    public CountingComparator(Comparator<T> delegate, boolean concurrent) {
         this.delegate = delegate;
+        this.concurrentComparisons = concurrent ? new LongAdder() : null;
+    }
+
+    /**
+     * Returns whether this {@link CountingComparator} counts the comparisons in a thread-safe way.
+     * @return {@code true} if this comparator is concurrent.
+     */
+    public boolean isConcurrent() {
+        return concurrentComparisons != null;
     }
 
     /**
@@ -39,6 +68,9 @@ public class CountingComparator<T> implements Comparator<T> {
     public void reset() {
         //TODO: H1 b) - remove if implemented
         numberOfComparisons = 0;
+        if (concurrentComparisons != null) {
+            concurrentComparisons.reset();
+        }
     }
 
     /**
@@ -54,7 +86,8 @@ public class CountingComparator<T> implements Comparator<T> {
     public int compare(T o1, T o2) {
         //TODO: H1 b) - remove if implemented
         int comparisonValue = delegate.compare(o1, o2); // Use the delegate comparator to compare the two objects
-        numberOfComparisons++;
+        if (concurrentComparisons != null) concurrentComparisons.increment();
+        else numberOfComparisons++;
         return comparisonValue;
     }
 
@@ -63,11 +96,24 @@ public class CountingComparator<T> implements Comparator<T> {
      * If the {@link #reset()} method did not get called yet, the number of comparisons made since the creation of this object will be returned.
      * <p>
      * The number of comparisons is equal to the number of times the {@link #compare(Object, Object)} method got called.
+     * If it exceeds {@link Integer#MAX_VALUE}, {@link Integer#MAX_VALUE} is returned.
      *
      * @return the number of comparisons made.
+     * @see #getTotalComparisonsCount()
      */
     public int getComparisonsCount() {
         //TODO: H1 b) - remove if implemented
+        return (int) Math.min(getTotalComparisonsCount(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of comparisons made by the {@link #compare(Object, Object)} method like
+     * {@link #getComparisonsCount()}, but as a {@code long}, so it is not limited to {@link Integer#MAX_VALUE}.
+     *
+     * @return the number of comparisons made.
+     */
+    public long getTotalComparisonsCount() {
+        if (concurrentComparisons != null) return concurrentComparisons.sum();
         return numberOfComparisons;
     }
 }
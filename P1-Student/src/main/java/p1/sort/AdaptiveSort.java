@@ -0,0 +1,226 @@
+package p1.sort;
+
+import p1.comparator.CountingComparator;
+import p1.sort.radix.BucketStrategy;
+import p1.sort.radix.RadixIndexExtractor;
+import p1.sort.radix.RadixSort;
+
+import java.util.Comparator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link Sort} that chooses the sorting algorithm for every list from a sample of its elements.
+ * <p>
+ * Before a list is sorted, its {@link HybridTuningCache.Profile} is computed from a few hundred evenly spaced elements.
+ * The {@link Engine} is then chosen in the following order:
+ * <ol>
+ *     <li>{@link Engine#INSERTION} for lists with less than {@link #SMALL_SIZE} elements.</li>
+ *     <li>{@link Engine#NATURAL_MERGE} if at least nine tenths of the sampled neighbors are in order or at least nine
+ *     tenths are out of order, i.e. if the list consists of a few long runs.</li>
+ *     <li>{@link Engine#INTROSORT} if at least half of the sample are duplicates, since three-way partitioning sorts
+ *     equal elements in linear time.</li>
+ *     <li>{@link Engine#RADIX} if a {@link RadixIndexExtractor} of a fixed width has been given, i.e. one whose
+ *     {@link RadixIndexExtractor#getMaxPositions()} is positive. Extractors of values of different lengths, e.g.
+ *     {@link p1.sort.radix.LatinStringIndexExtractor}, may order the values differently than the comparator, so they
+ *     are not used.</li>
+ *     <li>{@link Engine#HYBRID} otherwise.</li>
+ * </ol>
+ * The decision is logged at level {@link Level#FINE} and can be queried using {@link #getEngine()} and
+ * {@link #getProfile()}. {@link #getComparisonsCount()} includes the comparisons made for sampling.
+ *
+ * @param <T> the type of the elements to be sorted.
+ *
+ * @see Sort
+ */
+public class AdaptiveSort<T> implements Sort<T> {
+
+    /**
+     * Lists with fewer elements than this are sorted using insertion sort.
+     */
+    public static final int SMALL_SIZE = 32;
+
+    /**
+     * The logger the decisions are logged to.
+     */
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveSort.class.getName());
+
+    /**
+     * The k-value of the {@link HybridSort} engines.
+     */
+    private static final int HYBRID_K = 16;
+
+    /**
+     * The algorithms the {@link AdaptiveSort} can choose from.
+     */
+    public enum Engine {
+
+        /**
+         * Insertion sort, see {@link BaseCase#INSERTION}.
+         */
+        INSERTION,
+
+        /**
+         * {@link HybridSort} in natural merge mode, see {@link HybridSort#setNaturalMerge(boolean)}.
+         */
+        NATURAL_MERGE,
+
+        /**
+         * {@link IntroSort} with three-way partitioning.
+         */
+        INTROSORT,
+
+        /**
+         * {@link RadixSort} in auto mode with {@link BucketStrategy#COUNTING}, only used for fixed-width extractors.
+         */
+        RADIX,
+
+        /**
+         * {@link HybridSort} with {@link BaseCase#INSERTION}.
+         */
+        HYBRID
+    }
+
+    /**
+     * The comparator used for comparing the sorted elements.
+     */
+    private final Comparator<T> comparator;
+
+    /**
+     * The comparator used for sampling and for {@link Engine#INSERTION}.
+     */
+    private final CountingComparator<T> countingComparator;
+
+    /**
+     * The extractor used by {@link Engine#RADIX}, or {@code null} if radix sort is not available.
+     */
+    private final RadixIndexExtractor<T> indexExtractor;
+
+    /**
+     * The engine chosen for the last sorted list.
+     */
+    private Engine engine;
+
+    /**
+     * The profile of the last sorted list.
+     */
+    private HybridTuningCache.Profile profile;
+
+    /**
+     * The number of comparisons made by the engine during the last call of {@link #sort(SortList)}.
+     */
+    private long engineComparisons;
+
+    /**
+     * Creates a new {@link AdaptiveSort} instance that does not use radix sort.
+     *
+     * @param comparator the comparator used for comparing the sorted elements.
+     */
+    public AdaptiveSort(Comparator<T> comparator) {
+        this(comparator, null);
+    }
+
+    /**
+     * Creates a new {@link AdaptiveSort} instance.
+     *
+     * @param comparator the comparator used for comparing the sorted elements.
+     * @param indexExtractor the extractor used for radix sort, or {@code null} if radix sort should not be used. Its
+     *                       order has to be consistent with the comparator. It is only used if it has a fixed width,
+     *                       i.e. if {@link RadixIndexExtractor#getMaxPositions()} is positive.
+     */
+    public AdaptiveSort(Comparator<T> comparator, RadixIndexExtractor<T> indexExtractor) {
+        this.comparator = comparator;
+        this.countingComparator = new CountingComparator<>(comparator);
+        this.indexExtractor = indexExtractor;
+    }
+
+    @Override
+    public void sort(SortList<T> sortList) {
+        countingComparator.reset();
+        engineComparisons = 0;
+
+        profile = HybridTuningCache.Profile.of(sortList, countingComparator);
+        engine = choose(sortList);
+        LOGGER.log(Level.FINE, "Sorting {0} elements with profile {1} using {2}",
+            new Object[]{sortList.getSize(), profile, engine});
+
+        switch (engine) {
+            case INSERTION -> BaseCase.INSERTION.sort(sortList, 0, sortList.getSize() - 1, countingComparator);
+            case NATURAL_MERGE -> {
+                HybridSort<T> hybridSort = new HybridSort<>(HYBRID_K, comparator);
+                hybridSort.setBaseCase(BaseCase.INSERTION);
+                hybridSort.setNaturalMerge(true);
+                run(hybridSort, sortList);
+            }
+            case INTROSORT -> run(new IntroSort<>(comparator), sortList);
+            case RADIX -> {
+                RadixSort<T> radixSort = new RadixSort<>(indexExtractor.getRadix(), indexExtractor,
+                    BucketStrategy.COUNTING);
+                radixSort.setAutoMode(true);
+                run(radixSort, sortList);
+            }
+            case HYBRID -> {
+                HybridSort<T> hybridSort = new HybridSort<>(HYBRID_K, comparator);
+                hybridSort.setBaseCase(BaseCase.INSERTION);
+                run(hybridSort, sortList);
+            }
+        }
+    }
+
+    @Override
+    public int getComparisonsCount() {
+        return (int) Math.min(getTotalComparisonsCount(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long getTotalComparisonsCount() {
+        return countingComparator.getTotalComparisonsCount() + engineComparisons;
+    }
+
+    /**
+     * Returns the engine chosen for the last sorted list.
+     * @return the engine of the last call of {@link #sort(SortList)}, or {@code null} if no list has been sorted yet.
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Returns the profile the engine for the last sorted list has been chosen by.
+     * @return the profile of the last sorted list, or {@code null} if no list has been sorted yet.
+     */
+    public HybridTuningCache.Profile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Chooses the engine for the given list based on {@link #profile}.
+     *
+     * @param sortList the list to sort.
+     * @return the chosen engine.
+     */
+    private Engine choose(SortList<T> sortList) {
+        int size = sortList.getSize();
+        if (size < SMALL_SIZE) {
+            return Engine.INSERTION;
+        }
+        if (profile.presortedness() >= 9 || profile.presortedness() <= 1) {
+            return Engine.NATURAL_MERGE;
+        }
+        if (profile.duplicates() >= 5) {
+            return Engine.INTROSORT;
+        }
+        if (indexExtractor != null && indexExtractor.getMaxPositions() > 0) {
+            return Engine.RADIX;
+        }
+        return Engine.HYBRID;
+    }
+
+    /**
+     * Sorts the given list using the given engine and records its comparisons.
+     */
+    private void run(Sort<T> sort, SortList<T> sortList) {
+        sort.sort(sortList);
+        engineComparisons = sort.getTotalComparisonsCount();
+    }
+}
@@ -0,0 +1,95 @@
+package p1.sort;
+
+/**
+ * A sorting algorithm that can compute the order of the elements of a {@link SortList} without moving them.
+ *
+ * <p>The order is returned as a permutation {@code p}, such that {@code p[i]} is the index of the element that belongs
+ * to position {@code i} of the sorted list. Every element is read at least once, but no element is written, so the
+ * original layout of the list is kept. The permutation can be applied to the list itself and to any number of
+ * parallel lists, e.g. the other columns of a table, using {@link #apply(int[], SortList[])}.
+ *
+ * @param <T> the type of the elements in the {@link SortList} that will be sorted.
+ */
+public interface ArgSort<T> extends Sort<T> {
+
+    /**
+     * Returns the permutation that sorts the given {@link SortList}, without modifying it. The permutation is
+     * stable, i.e. equal elements keep their relative order.
+     *
+     * @param sortList the {@link SortList} to compute the order of.
+     * @return the permutation sorting the list.
+     */
+    int[] argsort(SortList<T> sortList);
+
+    /**
+     * Rearranges all given {@link SortList SortLists} in place, so that position {@code i} of every list holds the
+     * element that was at position {@code permutation[i]} before.
+     *
+     * <p>The lists are rearranged together in a single pass over the cycles of the permutation. Every element that is
+     * not already in place is read once and written once. Elements that are in place are not accessed at all.
+     *
+     * @param permutation the permutation to apply, as returned by {@link #argsort(SortList)}.
+     * @param sortLists the lists to rearrange. They must have as many elements as the permutation.
+     * @throws IllegalArgumentException if the permutation is not a permutation of the indices of the lists.
+     */
+    static void apply(int[] permutation, SortList<?>... sortLists) {
+        int size = permutation.length;
+        for (SortList<?> sortList : sortLists) {
+            if (sortList.getSize() != size) {
+                throw new IllegalArgumentException("All lists must have as many elements as the permutation.");
+            }
+        }
+
+        boolean[] visited = new boolean[size];
+        for (int index : permutation) {
+            if (index < 0 || index >= size || visited[index]) {
+                throw new IllegalArgumentException("Invalid permutation.");
+            }
+            visited[index] = true;
+        }
+
+        Object[] first = new Object[sortLists.length];
+        for (int start = 0; start < size; start++) {
+            if (!visited[start]) {
+                continue;
+            }
+            visited[start] = false;
+            if (permutation[start] == start) {
+                continue;
+            }
+
+            // Follow the cycle, moving the next element of every list into the current position
+            for (int l = 0; l < sortLists.length; l++) {
+                first[l] = sortLists[l].get(start);
+            }
+            int current = start;
+            int next = permutation[current];
+            while (next != start) {
+                for (SortList<?> sortList : sortLists) {
+                    move(sortList, next, current);
+                }
+                visited[next] = false;
+                current = next;
+                next = permutation[current];
+            }
+            for (int l = 0; l < sortLists.length; l++) {
+                set(sortLists[l], current, first[l]);
+            }
+        }
+    }
+
+    /**
+     * Moves the element at index from to index to of the given list.
+     */
+    private static <E> void move(SortList<E> sortList, int from, int to) {
+        sortList.set(to, sortList.get(from));
+    }
+
+    /**
+     * Sets the element at the given index of the given list to a value that has been read from the same list.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> void set(SortList<E> sortList, int index, Object value) {
+        sortList.set(index, (E) value);
+    }
+}
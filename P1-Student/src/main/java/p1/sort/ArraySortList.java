@@ -9,6 +9,10 @@ import java.util.List;
 
 /**
  * An implementation of {@link SortList} that uses an array to store the elements.
+ * <p>
+ * Counting the read and write operations can be disabled using {@link #ArraySortList(Object[], boolean)}. An uncounted
+ * {@link ArraySortList} is sorted by {@link HybridSort} directly on its array, without calling the user comparator
+ * through a {@link p1.comparator.CountingComparator}.
  * @param <E> the type of elements in this {@link ArraySortList}.
  */
 public class ArraySortList<E> implements SortList<E> {
@@ -18,6 +22,11 @@ public class ArraySortList<E> implements SortList<E> {
      */
     E[] elements;
 
+    /**
+     * Whether read and write operations are counted.
+     */
+    private boolean counting = true;
+
     /**
      * The number of read operations performed on this {@link ArraySortList}.
      */
@@ -45,6 +54,16 @@ public class ArraySortList<E> implements SortList<E> {
         this.elements = Arrays.copyOf(elements, elements.length);
     }
 
+    /**
+     * Creates a new {@link ArraySortList} with the specified elements.
+     * @param elements the elements to store in this {@link ArraySortList}.
+     * @param counting whether read and write operations should be counted.
+     */
+    public ArraySortList(E[] elements, boolean counting) {
+        this(elements);
+        this.counting = counting;
+    }
+
     /**
      * Creates a new, empty {@link ArraySortList} with the specified size.
      * @param size the size of the {@link ArraySortList}.
@@ -54,9 +73,26 @@ public class ArraySortList<E> implements SortList<E> {
         this.elements = (E[]) new Object[size];
     }
 
+    /**
+     * Creates a new {@link ArraySortList} that is backed by the given array instead of a copy of it.
+     * Changes to the {@link ArraySortList} are written through to the array.
+     * @param elements the array that stores the elements.
+     * @param counting whether read and write operations should be counted.
+     * @param <E> the type of elements in the {@link ArraySortList}.
+     * @return a new {@link ArraySortList} backed by the given array.
+     */
+    public static <E> ArraySortList<E> wrap(E[] elements, boolean counting) {
+        ArraySortList<E> sortList = new ArraySortList<>(0);
+        sortList.elements = elements;
+        sortList.counting = counting;
+        return sortList;
+    }
+
     @Override
     public E get(int index) {
-        readCount++;
+        if (counting) {
+            readCount++;
+        }
         return elements[index];
     }
 
@@ -67,14 +103,18 @@ public class ArraySortList<E> implements SortList<E> {
             throw new IndexOutOfBoundsException(index);
         }
 
-        writeCount++;
+        if (counting) {
+            writeCount++;
+        }
         elements[index] = value;
     }
 
     @Override
     public @Nullable E remove(int index) {
-        readCount++;
-        writeCount++;
+        if (counting) {
+            readCount++;
+            writeCount++;
+        }
         E removed = elements[index];
         elements[index] = null;
         return removed;
@@ -90,6 +130,14 @@ public class ArraySortList<E> implements SortList<E> {
         return Arrays.stream(elements).iterator();
     }
 
+    /**
+     * Returns whether read and write operations are counted by this {@link ArraySortList}.
+     * @return {@code true} if operations are counted.
+     */
+    public boolean isCounting() {
+        return counting;
+    }
+
     @Override
     public int getReadCount() {
         return readCount;
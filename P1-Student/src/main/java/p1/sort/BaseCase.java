@@ -0,0 +1,167 @@
+package p1.sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The algorithms that {@link HybridSort} can use for sorting ranges with less than k elements.
+ * <p>
+ * Every algorithm only considers the elements between the given left and right indices (both inclusive) and accesses
+ * them through {@link SortList#get(int)} and {@link SortList#set(int, Object)}, so the read and write operations are
+ * counted by the {@link SortList}.
+ *
+ * @see HybridSort#setBaseCase(BaseCase)
+ */
+public enum BaseCase {
+
+    /**
+     * Bubble sort. Every swap of two elements costs two reads and two writes. It is stable.
+     */
+    BUBBLE {
+        @Override
+        public <T> void sort(SortList<T> sortList, int left, int right, Comparator<? super T> comparator) {
+            for (int i = right; i >= left; i--) {
+                for (int j = left; j < i; j++) {
+                    T a = sortList.get(j);
+                    T b = sortList.get(j + 1);
+                    if (comparator.compare(a, b) > 0) {
+                        sortList.set(j + 1, a);
+                        sortList.set(j, b);
+                    }
+                }
+            }
+        }
+    },
+
+    /**
+     * Insertion sort. Elements are shifted instead of swapped, so every shift costs one read and one write. It is stable.
+     */
+    INSERTION {
+        @Override
+        public <T> void sort(SortList<T> sortList, int left, int right, Comparator<? super T> comparator) {
+            for (int i = left + 1; i <= right; i++) {
+                T value = sortList.get(i);
+                int j = i - 1;
+                T current;
+                while (j >= left && comparator.compare(current = sortList.get(j), value) > 0) {
+                    sortList.set(j + 1, current);
+                    j--;
+                }
+                if (j + 1 != i) {
+                    sortList.set(j + 1, value);
+                }
+            }
+        }
+    },
+
+    /**
+     * Insertion sort that finds the insertion position using a binary search. It needs {@code O(log k)} comparisons per
+     * element, which pays off for expensive comparators. It is stable.
+     */
+    BINARY_INSERTION {
+        @Override
+        public <T> void sort(SortList<T> sortList, int left, int right, Comparator<? super T> comparator) {
+            for (int i = left + 1; i <= right; i++) {
+                T value = sortList.get(i);
+
+                // Find the first position whose element is greater than the value
+                int low = left;
+                int high = i;
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (comparator.compare(sortList.get(mid), value) > 0) {
+                        high = mid;
+                    } else {
+                        low = mid + 1;
+                    }
+                }
+
+                for (int j = i; j > low; j--) {
+                    sortList.set(j, sortList.get(j - 1));
+                }
+                if (low != i) {
+                    sortList.set(low, value);
+                }
+            }
+        }
+    },
+
+    /**
+     * A fixed sorting network (Batcher's odd-even merge sort) for ranges with up to {@link #MAX_NETWORK_SIZE} elements.
+     * The sequence of comparisons does not depend on the input. Larger ranges are sorted using {@link #INSERTION}.
+     * It is <b>not</b> stable.
+     */
+    SORTING_NETWORK {
+        @Override
+        public <T> void sort(SortList<T> sortList, int left, int right, Comparator<? super T> comparator) {
+            int size = right - left + 1;
+            if (size > MAX_NETWORK_SIZE) {
+                INSERTION.sort(sortList, left, right, comparator);
+                return;
+            }
+
+            for (int[] pair : Networks.NETWORKS[Math.max(size, 0)]) {
+                int i = left + pair[0];
+                int j = left + pair[1];
+                T a = sortList.get(i);
+                T b = sortList.get(j);
+                if (comparator.compare(a, b) > 0) {
+                    sortList.set(i, b);
+                    sortList.set(j, a);
+                }
+            }
+        }
+    };
+
+    /**
+     * The maximum size of a range that is sorted by {@link #SORTING_NETWORK} using a sorting network.
+     */
+    public static final int MAX_NETWORK_SIZE = 16;
+
+    /**
+     * Sorts the elements between the given left and right indices (both inclusive) of the given {@link SortList}.
+     * Elements with indices less than left or greater than right will not be altered.
+     *
+     * @param sortList the {@link SortList} to be sorted.
+     * @param left The leftmost index of the range to be sorted. (inclusive)
+     * @param right The rightmost index of the range to be sorted. (inclusive)
+     * @param comparator the comparator used for comparing the elements.
+     * @param <T> the type of the elements to be sorted.
+     */
+    public abstract <T> void sort(SortList<T> sortList, int left, int right, Comparator<? super T> comparator);
+
+    /**
+     * Holds the precomputed comparator pairs of the sorting networks.
+     */
+    private static final class Networks {
+
+        /**
+         * The comparator pairs of the sorting network for every size from 0 to {@link #MAX_NETWORK_SIZE}.
+         * The network for a size is derived from the network for 16 elements by dropping every pair that refers to an
+         * index outside the range, which behaves as if the missing elements were greater than all others.
+         */
+        static final int[][][] NETWORKS = new int[MAX_NETWORK_SIZE + 1][][];
+
+        static {
+            List<int[]> pairs = new ArrayList<>();
+            int n = MAX_NETWORK_SIZE;
+            for (int p = 1; p < n; p <<= 1) {
+                for (int k = p; k >= 1; k >>= 1) {
+                    for (int j = k % p; j + k < n; j += 2 * k) {
+                        for (int i = 0; i < Math.min(k, n - j - k); i++) {
+                            if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+                                pairs.add(new int[]{i + j, i + j + k});
+                            }
+                        }
+                    }
+                }
+            }
+
+            for (int size = 0; size <= n; size++) {
+                int limit = size;
+                NETWORKS[size] = pairs.stream().filter(pair -> pair[1] < limit).toArray(int[][]::new);
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package p1.sort;
+
+import p1.comparator.CountingComparator;
+
+import java.util.Comparator;
+
+/**
+ * A stable mergeSort that merges in place, using only a buffer of {@code O(sqrt n)} elements.
+ * <p>
+ * The list is split into blocks of {@link #BLOCK_SIZE} elements that are sorted using insertion sort. The blocks are
+ * then merged bottom-up. If the shorter of two runs fits into the buffer, it is copied into the buffer and the runs are
+ * merged directly into the list. Otherwise, the longer run is split in the middle, the shorter run is split at the
+ * matching position found by binary search, and the two inner parts are swapped by a rotation. This leaves two
+ * independent, smaller merges, which are handled the same way until the shorter run fits into the buffer. Ties are
+ * always resolved in favor of the left run, so the sort is stable.
+ * <p>
+ * Unlike {@link HybridSort#merge(SortList, int, int, int)}, no temporary list of the size of the merged range is
+ * created, so the peak memory stays at {@code O(sqrt n)} elements. All elements are accessed through
+ * {@link SortList#get(int)} and {@link SortList#set(int, Object)} and compared using a {@link CountingComparator}, so
+ * the operations are counted as in {@link HybridSort}.
+ *
+ * @param <T> the type of the elements to be sorted.
+ *
+ * @see Sort
+ */
+public class BlockMergeSort<T> implements Sort<T> {
+
+    /**
+     * The size of the blocks that are sorted using insertion sort before merging.
+     */
+    private static final int BLOCK_SIZE = 16;
+
+    /**
+     * The comparator used for comparing the sorted elements.
+     */
+    private final CountingComparator<T> comparator;
+
+    /**
+     * The buffer used for merging. It holds about {@code sqrt n} elements.
+     */
+    private T[] buffer;
+
+    /**
+     * Creates a new {@link BlockMergeSort} instance.
+     *
+     * @param comparator the comparator used for comparing the sorted elements.
+     */
+    public BlockMergeSort(Comparator<T> comparator) {
+        this.comparator = new CountingComparator<>(comparator);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(SortList<T> sortList) {
+        comparator.reset();
+        int size = sortList.getSize();
+        buffer = (T[]) new Object[(int) Math.ceil(Math.sqrt(size))];
+
+        for (int left = 0; left < size; left += BLOCK_SIZE) {
+            BaseCase.INSERTION.sort(sortList, left, Math.min(left + BLOCK_SIZE, size) - 1, comparator);
+        }
+        for (int width = BLOCK_SIZE; width < size; width *= 2) {
+            for (int left = 0; left < size - width; left += 2 * width) {
+                merge(sortList, left, left + width, Math.min(left + 2 * width, size));
+            }
+        }
+
+        buffer = null;
+    }
+
+    @Override
+    public int getComparisonsCount() {
+        return comparator.getComparisonsCount();
+    }
+
+    @Override
+    public long getTotalComparisonsCount() {
+        return comparator.getTotalComparisonsCount();
+    }
+
+    /**
+     * Merges the sorted runs {@code [left, middle)} and {@code [middle, right)} in place.
+     *
+     * @param sortList the {@link SortList} to be sorted.
+     * @param left the first index of the left run (inclusive).
+     * @param middle the first index of the right run.
+     * @param right the last index of the right run (exclusive).
+     */
+    private void merge(SortList<T> sortList, int left, int middle, int right) {
+        while (left < middle && middle < right) {
+            // The runs are already in order
+            if (comparator.compare(sortList.get(middle - 1), sortList.get(middle)) <= 0) {
+                return;
+            }
+
+            int length1 = middle - left;
+            int length2 = right - middle;
+            if (length1 <= buffer.length) {
+                mergeForward(sortList, left, middle, right);
+                return;
+            }
+            if (length2 <= buffer.length) {
+                mergeBackward(sortList, left, middle, right);
+                return;
+            }
+
+            // Split both runs, so that every element of the inner parts belongs between the outer parts
+            int cut1;
+            int cut2;
+            if (length1 >= length2) {
+                cut1 = left + length1 / 2;
+                cut2 = lowerBound(sortList, middle, right, sortList.get(cut1));
+            } else {
+                cut2 = middle + length2 / 2;
+                cut1 = upperBound(sortList, left, middle, sortList.get(cut2));
+            }
+            int newMiddle = cut1 + (cut2 - middle);
+            rotate(sortList, cut1, middle, cut2);
+
+            // Merge the smaller half recursively and the larger one iteratively
+            if (newMiddle - left < right - newMiddle) {
+                merge(sortList, left, cut1, newMiddle);
+                left = newMiddle;
+                middle = cut2;
+            } else {
+                merge(sortList, newMiddle, cut2, right);
+                right = newMiddle;
+                middle = cut1;
+            }
+        }
+    }
+
+    /**
+     * Merges the runs by copying the left run into the {@link #buffer} and merging from left to right.
+     */
+    private void mergeForward(SortList<T> sortList, int left, int middle, int right) {
+        int length1 = middle - left;
+        for (int i = 0; i < length1; i++) {
+            buffer[i] = sortList.get(left + i);
+        }
+
+        int a = 0;
+        int b = middle;
+        int destination = left;
+        while (a < length1 && b < right) {
+            T value = sortList.get(b);
+            if (comparator.compare(value, buffer[a]) < 0) {
+                sortList.set(destination++, value);
+                b++;
+            } else {
+                sortList.set(destination++, buffer[a++]);
+            }
+        }
+
+        // The remaining elements of the right run are already in place
+        while (a < length1) {
+            sortList.set(destination++, buffer[a++]);
+        }
+        clearBuffer(length1);
+    }
+
+    /**
+     * Merges the runs by copying the right run into the {@link #buffer} and merging from right to left.
+     */
+    private void mergeBackward(SortList<T> sortList, int left, int middle, int right) {
+        int length2 = right - middle;
+        for (int i = 0; i < length2; i++) {
+            buffer[i] = sortList.get(middle + i);
+        }
+
+        int a = middle - 1;
+        int b = length2 - 1;
+        int destination = right - 1;
+        while (a >= left && b >= 0) {
+            T value = sortList.get(a);
+            if (comparator.compare(buffer[b], value) < 0) {
+                sortList.set(destination--, value);
+                a--;
+            } else {
+                sortList.set(destination--, buffer[b--]);
+            }
+        }
+
+        // The remaining elements of the left run are already in place
+        while (b >= 0) {
+            sortList.set(destination--, buffer[b--]);
+        }
+        clearBuffer(length2);
+    }
+
+    /**
+     * Removes the references to the first elements of the {@link #buffer}.
+     */
+    private void clearBuffer(int length) {
+        for (int i = 0; i < length; i++) {
+            buffer[i] = null;
+        }
+    }
+
+    /**
+     * Returns the first index between from (inclusive) and to (exclusive) whose element is not less than the key.
+     */
+    private int lowerBound(SortList<T> sortList, int from, int to, T key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (comparator.compare(sortList.get(mid), key) < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Returns the first index between from (inclusive) and to (exclusive) whose element is greater than the key.
+     */
+    private int upperBound(SortList<T> sortList, int from, int to, T key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (comparator.compare(sortList.get(mid), key) <= 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Swaps the ranges {@code [left, middle)} and {@code [middle, right)} using three reversals.
+     */
+    private static <T> void rotate(SortList<T> sortList, int left, int middle, int right) {
+        if (left == middle || middle == right) {
+            return;
+        }
+        reverse(sortList, left, middle - 1);
+        reverse(sortList, middle, right - 1);
+        reverse(sortList, left, right - 1);
+    }
+
+    /**
+     * Reverses the elements between the given indices (both inclusive).
+     */
+    private static <T> void reverse(SortList<T> sortList, int low, int high) {
+        while (low < high) {
+            T a = sortList.get(low);
+            T b = sortList.get(high);
+            sortList.set(low++, b);
+            sortList.set(high--, a);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package p1.sort;
+
+import p1.card.Card;
+import p1.card.CardColor;
+import p1.comparator.CardComparator;
+
+/**
+ * A non-comparison-based sorting algorithm for {@linkplain Card Cards}.
+ * <p>
+ * Every card is packed into a small integer key using {@link #pack(Card)}. Since there are only 48 different keys, the
+ * cards are sorted using a stable counting sort over the keys: the list is read once into a scratch array while the
+ * keys are counted, and every card is then written once to the offset of its key. The resulting order is exactly the
+ * order defined by {@link CardComparator}.
+ *
+ * @see CardComparator
+ */
+public class CardSort implements Sort<Card> {
+
+    /**
+     * The number of different card values.
+     */
+    private static final int VALUES = 12;
+
+    /**
+     * The number of different keys.
+     */
+    private static final int KEYS = VALUES * CardColor.values().length;
+
+    /**
+     * The rank of every {@link CardColor}, indexed by its ordinal, in the order used by {@link CardComparator}.
+     */
+    private static final int[] COLOR_RANKS = new int[CardColor.values().length];
+
+    static {
+        COLOR_RANKS[CardColor.DIAMONDS.ordinal()] = 0;
+        COLOR_RANKS[CardColor.HEARTS.ordinal()] = 1;
+        COLOR_RANKS[CardColor.SPADES.ordinal()] = 2;
+        COLOR_RANKS[CardColor.CLUBS.ordinal()] = 3;
+    }
+
+    /**
+     * Packs the given {@link Card} into a key between 0 (inclusive) and 48 (exclusive).
+     * <p>
+     * The value of the card forms the high part of the key and the rank of its color the low part, so comparing the
+     * keys of two cards yields the same result as {@link CardComparator#compare(Card, Card)}.
+     *
+     * @param card the card to pack.
+     * @return the key of the card.
+     * @throws NullPointerException if the card is {@code null}.
+     */
+    public static int pack(Card card) {
+        return (card.cardValue() - 2) * COLOR_RANKS.length + colorRank(card.cardColor());
+    }
+
+    /**
+     * Returns the rank of the given {@link CardColor} in the order used by {@link CardComparator}, from 0 for
+     * {@link CardColor#DIAMONDS} to 3 for {@link CardColor#CLUBS}.
+     *
+     * @param cardColor the color to rank.
+     * @return the rank of the color.
+     * @throws NullPointerException if the color is {@code null}.
+     */
+    public static int colorRank(CardColor cardColor) {
+        return COLOR_RANKS[cardColor.ordinal()];
+    }
+
+    @Override
+    public void sort(SortList<Card> sortList) {
+        int size = sortList.getSize();
+        Card[] scratch = new Card[size];
+        int[] offsets = new int[KEYS + 1];
+
+        // Read every card once and count its key
+        for (int i = 0; i < size; i++) {
+            Card card = sortList.get(i);
+            scratch[i] = card;
+            offsets[pack(card) + 1]++;
+        }
+
+        // Convert the counts to the start offsets of the keys
+        for (int key = 0; key < KEYS; key++) {
+            offsets[key + 1] += offsets[key];
+        }
+
+        // Write every card to the next free index of its key (stable)
+        for (Card card : scratch) {
+            sortList.set(offsets[pack(card)]++, card);
+        }
+    }
+
+    @Override
+    public int getComparisonsCount() {
+        return 0; // Counting sort is not based on comparisons.
+    }
+}
@@ -0,0 +1,127 @@
+package p1.sort;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link SortList} that counts the read and write operations of another {@link SortList} in a thread-safe way.
+ * <p>
+ * The operations are counted in {@link LongAdder LongAdders}, which keep a striped counter per contending thread and
+ * sum them up on read. Hence, no updates are lost if the list is accessed concurrently, e.g. by fork/join tasks or
+ * virtual threads, and the counters do not overflow. The delegate should not count its operations itself, e.g. an
+ * {@link ArraySortList} created with counting disabled.
+ * <p>
+ * This class does not make the delegate itself thread-safe. Concurrent accesses must still be confined to disjoint
+ * indices or synchronized otherwise.
+ *
+ * @param <E> the type of elements in this {@link SortList}.
+ */
+public class ConcurrentCountingSortList<E> implements SortList<E> {
+
+    /**
+     * The {@link SortList} that stores the elements.
+     */
+    private final SortList<E> delegate;
+
+    /**
+     * The number of read operations performed on this {@link ConcurrentCountingSortList}.
+     */
+    private final LongAdder readCount = new LongAdder();
+
+    /**
+     * The number of write operations performed on this {@link ConcurrentCountingSortList}.
+     */
+    private final LongAdder writeCount = new LongAdder();
+
+    /**
+     * Creates a new {@link ConcurrentCountingSortList} that counts the operations on the given {@link SortList}.
+     * @param delegate the {@link SortList} that stores the elements.
+     */
+    public ConcurrentCountingSortList(SortList<E> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public @Nullable E get(int index) {
+        readCount.increment();
+        return delegate.get(index);
+    }
+
+    @Override
+    public void set(int index, @Nullable E value) {
+        writeCount.increment();
+        delegate.set(index, value);
+    }
+
+    @Override
+    public @Nullable E remove(int index) {
+        readCount.increment();
+        writeCount.increment();
+        return delegate.remove(index);
+    }
+
+    @Override
+    public int getSize() {
+        return delegate.getSize();
+    }
+
+    @Override
+    public @NotNull Iterator<@Nullable E> iterator() {
+        return delegate.iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     * If it exceeds {@link Integer#MAX_VALUE}, {@link Integer#MAX_VALUE} is returned.
+     */
+    @Override
+    public int getReadCount() {
+        return (int) Math.min(readCount.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If it exceeds {@link Integer#MAX_VALUE}, {@link Integer#MAX_VALUE} is returned.
+     */
+    @Override
+    public int getWriteCount() {
+        return (int) Math.min(writeCount.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of read operations performed on this {@link ConcurrentCountingSortList} as a {@code long}.
+     * @return the number of read operations.
+     */
+    public long getTotalReadCount() {
+        return readCount.sum();
+    }
+
+    /**
+     * Returns the number of write operations performed on this {@link ConcurrentCountingSortList} as a {@code long}.
+     * @return the number of write operations.
+     */
+    public long getTotalWriteCount() {
+        return writeCount.sum();
+    }
+
+    /**
+     * Resets the read and write counters to 0.
+     */
+    public void resetCounts() {
+        readCount.reset();
+        writeCount.reset();
+    }
+
+    @Override
+    public E[] toArray() {
+        return delegate.toArray();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
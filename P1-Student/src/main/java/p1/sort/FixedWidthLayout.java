@@ -0,0 +1,99 @@
+package p1.sort;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Describes how values of a fixed number of bytes are stored in a {@link ByteBuffer}.
+ * <p>
+ * It is used by {@link OffHeapSortList} to store its elements outside the Java heap. Implementations for records can
+ * combine several fields, as long as every value occupies exactly {@link #width()} bytes.
+ *
+ * @param <E> the type of the stored values.
+ * @see OffHeapSortList
+ */
+public interface FixedWidthLayout<E> {
+
+    /**
+     * Stores {@code int} values in 4 bytes.
+     */
+    FixedWidthLayout<Integer> INT = new FixedWidthLayout<>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer value) {
+            buffer.putInt(offset, value);
+        }
+    };
+
+    /**
+     * Stores {@code long} values in 8 bytes.
+     */
+    FixedWidthLayout<Long> LONG = new FixedWidthLayout<>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+    };
+
+    /**
+     * Stores {@code double} values in 8 bytes.
+     */
+    FixedWidthLayout<Double> DOUBLE = new FixedWidthLayout<>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double value) {
+            buffer.putDouble(offset, value);
+        }
+    };
+
+    /**
+     * Returns the number of bytes of a value.
+     * @return the number of bytes of a value.
+     */
+    int width();
+
+    /**
+     * Reads the value that starts at the given offset of the given buffer.
+     *
+     * @param buffer the buffer to read from.
+     * @param offset the offset of the first byte of the value.
+     * @return the value.
+     */
+    E read(ByteBuffer buffer, int offset);
+
+    /**
+     * Writes the given value to the given offset of the given buffer.
+     *
+     * @param buffer the buffer to write to.
+     * @param offset the offset of the first byte of the value.
+     * @param value the value to write. It must not be {@code null}.
+     */
+    void write(ByteBuffer buffer, int offset, E value);
+}
@@ -1,5 +1,14 @@
 package p1.sort;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
 import static org.tudalgo.algoutils.student.Student.crash;
 
 /**
@@ -7,6 +16,16 @@ import static org.tudalgo.algoutils.student.Student.crash;
  */
 public class HybridOptimizer {
 
+    /**
+     * The maximum number of elements used by {@link #optimizeParallel(HybridSort, Object[])} for evaluating a k-value.
+     */
+    static final int DEFAULT_SAMPLE_SIZE = 4096;
+
+    /**
+     * The lower bound of the largest k-value tried by the parallel search, see {@link #maxK(int)}.
+     */
+    private static final int MIN_MAX_K = 16;
+
     /**
      * Optimizes the {@link HybridSort} by trying to find the k-value with the lowest number of read and write operations.
      * The method will try out all k-values starting from 0 and return the k-value with the lowest number of read and write operations.
@@ -43,4 +62,214 @@ public class HybridOptimizer {
         return minK; // Return the optimal k-value
     }
 
+    /**
+     * Optimizes the {@link HybridSort} by trying to find the combination of {@link BaseCase} and k-value with the lowest
+     * number of read and write operations.
+     * For every given {@link BaseCase}, the k-value is determined using {@link #optimize(HybridSort, Object[])}. The best
+     * combination is set on the given {@link HybridSort} and returned.
+     *
+     * @param hybridSort the {@link HybridSort} to optimize.
+     * @param array the array to sort.
+     * @param baseCases the {@linkplain BaseCase base cases} to try. If none are given, all base cases are tried.
+     * @return the combination with the lowest number of read and write operations.
+     * @param <T> the type of the elements to be sorted.
+     */
+    public static <T> Tuning optimizeTuning(HybridSort<T> hybridSort, T[] array, BaseCase... baseCases) {
+        if (baseCases.length == 0) {
+            baseCases = BaseCase.values();
+        }
+
+        Tuning best = null;
+        int minOps = Integer.MAX_VALUE;
+        for (BaseCase baseCase : baseCases) {
+            hybridSort.setBaseCase(baseCase);
+            int k = optimize(hybridSort, array);
+            int ops = countOperations(hybridSort, array, k);
+            if (ops < minOps) {
+                minOps = ops;
+                best = new Tuning(baseCase, k);
+            }
+        }
+
+        hybridSort.setBaseCase(best.baseCase());
+        hybridSort.setK(best.k());
+        return best;
+    }
+
+    /**
+     * Optimizes the {@link HybridSort} like {@link #optimize(HybridSort, Object[])}, using a coarse-to-fine search on
+     * the {@link ForkJoinPool#commonPool() common pool}. The k-values are evaluated on a random sample of at most
+     * {@link #DEFAULT_SAMPLE_SIZE} elements of the array.
+     *
+     * @param hybridSort the {@link HybridSort} to optimize.
+     * @param array the array to sort.
+     * @return the k-value with the lowest number of read and write operations found by the search.
+     * @param <T> the type of the elements to be sorted.
+     *
+     * @see #optimizeParallel(HybridSort, Object[], int, Random, ForkJoinPool)
+     */
+    public static <T> int optimizeParallel(HybridSort<T> hybridSort, T[] array) {
+        return optimizeParallel(hybridSort, array, Math.min(array.length, DEFAULT_SAMPLE_SIZE), new Random(),
+            ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Optimizes the {@link HybridSort} by searching the k-value with the lowest number of read and write operations
+     * using a coarse-to-fine search.
+     * <p>
+     * In every round, a fixed number of evenly spaced k-values of the current range are evaluated concurrently on the
+     * given pool, each on its own copy of the {@link HybridSort}. The range is then narrowed to the neighbors of the best
+     * k-value found so far, until every k-value of the range has been evaluated. In contrast to
+     * {@link #optimize(HybridSort, Object[])}, this does not stop at the first local minimum and needs {@code O(log n)}
+     * rounds.
+     * <p>
+     * Since the base case needs a quadratic number of operations in k, only the k-values from 0 to
+     * {@link #maxK(int) maxK(n)} are searched, where n is the size of the sample. This keeps every evaluation at
+     * {@code O(n sqrt n)} operations instead of {@code O(n^2)}.
+     * <p>
+     * If the sample size is less than the length of the array, the k-values are evaluated on a random sample of the
+     * array with the given size instead of the whole array.
+     * <p>
+     * The given {@link HybridSort} is not modified.
+     *
+     * @param hybridSort the {@link HybridSort} to optimize.
+     * @param array the array to sort.
+     * @param sampleSize the number of elements used for evaluating a k-value.
+     * @param random the source of randomness used for drawing the sample.
+     * @param pool the pool that evaluates the k-values.
+     * @return the k-value with the lowest number of read and write operations found by the search.
+     * @param <T> the type of the elements to be sorted.
+     */
+    public static <T> int optimizeParallel(HybridSort<T> hybridSort, T[] array, int sampleSize, Random random,
+                                           ForkJoinPool pool) {
+        T[] sample = sample(array, sampleSize, random);
+        int candidates = Math.max(pool.getParallelism(), 4);
+
+        int maxK = maxK(sample.length);
+        int low = 0;
+        int high = maxK;
+        int bestK = 0;
+        int bestOps = Integer.MAX_VALUE;
+        while (true) {
+            // Choose evenly spaced k-values in [low, high], including both bounds
+            List<Integer> ks = new ArrayList<>();
+            int step = Math.max(1, (high - low) / (candidates - 1));
+            for (int k = low; k < high; k += step) {
+                ks.add(k);
+            }
+            ks.add(high);
+
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int k : ks) {
+                HybridSort<T> copy = hybridSort.copy(k);
+                tasks.add(() -> countOperations(copy, sample, k));
+            }
+            List<Integer> results = invokeAll(pool, tasks);
+
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i) < bestOps || (results.get(i) == bestOps && ks.get(i) < bestK)) {
+                    bestOps = results.get(i);
+                    bestK = ks.get(i);
+                }
+            }
+
+            if (step == 1) {
+                return bestK;
+            }
+
+            // Narrow the range to the neighbors of the best k-value found so far
+            low = Math.max(bestK - step, 0);
+            high = Math.min(bestK + step, maxK);
+        }
+    }
+
+    /**
+     * Returns the largest k-value tried by the parallel search for a sample of the given size. It is twice the square
+     * root of the size, but at least {@link #MIN_MAX_K} and at most {@code size + 1}.
+     *
+     * @param size the size of the sample.
+     * @return the largest k-value to try.
+     */
+    static int maxK(int size) {
+        return Math.min(size + 1, Math.max(MIN_MAX_K, 2 * (int) Math.ceil(Math.sqrt(size))));
+    }
+
+    /**
+     * Returns a random sample of the given array with the given size, keeping the order of the array.
+     * If the size is not less than the length of the array, the array itself is returned.
+     *
+     * @param array the array to draw the sample from.
+     * @param sampleSize the size of the sample.
+     * @param random the source of randomness.
+     * @return the sample.
+     * @param <T> the type of the elements.
+     */
+    private static <T> T[] sample(T[] array, int sampleSize, Random random) {
+        if (sampleSize >= array.length) {
+            return array;
+        }
+
+        // Select sampleSize indices using Floyd's algorithm and keep them in ascending order
+        boolean[] selected = new boolean[array.length];
+        for (int j = array.length - sampleSize; j < array.length; j++) {
+            int index = random.nextInt(j + 1);
+            selected[selected[index] ? j : index] = true;
+        }
+
+        T[] sample = Arrays.copyOf(array, sampleSize);
+        int next = 0;
+        for (int i = 0; i < array.length; i++) {
+            if (selected[i]) {
+                sample[next++] = array[i];
+            }
+        }
+        return sample;
+    }
+
+    /**
+     * Executes all given tasks on the given pool and returns their results in the same order.
+     *
+     * @param pool the pool that executes the tasks.
+     * @param tasks the tasks to execute.
+     * @return the results of the tasks.
+     */
+    private static List<Integer> invokeAll(ForkJoinPool pool, List<Callable<Integer>> tasks) {
+        List<Integer> results = new ArrayList<>();
+        try {
+            for (Future<Integer> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("optimization was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("optimization failed", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Sorts a copy of the given array with the given k-value and returns the number of read and write operations.
+     *
+     * @param hybridSort the {@link HybridSort} to use.
+     * @param array the array to sort.
+     * @param k the k-value to use.
+     * @return the number of read and write operations.
+     * @param <T> the type of the elements to be sorted.
+     */
+    private static <T> int countOperations(HybridSort<T> hybridSort, T[] array, int k) {
+        hybridSort.setK(k);
+        ArraySortList<T> sortList = new ArraySortList<>(array);
+        hybridSort.sort(sortList);
+        return sortList.getReadCount() + sortList.getWriteCount();
+    }
+
+    /**
+     * A combination of a {@link BaseCase} and a k-value for a {@link HybridSort}.
+     *
+     * @param baseCase the algorithm used for sorting the lists of size less than k.
+     * @param k the threshold for switching from mergeSort to the base case.
+     */
+    public record Tuning(BaseCase baseCase, int k) {
+    }
 }
@@ -3,6 +3,9 @@ package p1.sort;
 import p1.comparator.CountingComparator;
 
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.tudalgo.algoutils.student.Student.crash;
 
@@ -11,24 +14,76 @@ import static org.tudalgo.algoutils.student.Student.crash;
  * <p>
  * mergeSort is used for sorting the lists of size greater than or equal to k.
  * <p>
- * bubbleSort is used for sorting the lists of size less than k.
+ * bubbleSort is used for sorting the lists of size less than k. Another algorithm for these lists can be chosen
+ * using {@link #setBaseCase(BaseCase)}.
+ * <p>
+ * If a parallel threshold is set, the elements are copied into an array and both halves of every range with at least
+ * that many elements are sorted as separate tasks on a {@link ForkJoinPool}. All merges then use a single scratch
+ * array, in which every task only uses the part that corresponds to its own range.
+ * <p>
+ * In natural merge mode, the list is split into existing ascending or strictly descending runs instead of halves.
+ * Runs shorter than k are extended using the base case, and the runs are merged with galloping. See
+ * {@link #setNaturalMerge(boolean)}.
+ * <p>
+ * If a {@link KeyPrefix} is set, the prefix of every element is cached in a primitive array and the comparator is only
+ * called for elements with equal prefixes. See {@link #setKeyPrefix(KeyPrefix)}.
+ * <p>
+ * An {@link ArraySortList} that does not count its operations is sorted directly on its array, and the comparator
+ * given in the constructor is called without the {@link CountingComparator}. In this case, no comparisons are counted.
  *
  * @param <T> the type of the elements to be sorted.
  *
  * @see Sort
+ * @see ArgSort
  */
-public class HybridSort<T> implements Sort<T> {
+public class HybridSort<T> implements ArgSort<T> {
 
     /**
      * The threshold for switching from mergeSort to bubbleSort.
      */
     private int k;
 
+    /**
+     * The algorithm used for sorting the lists of size less than {@link #k}.
+     */
+    private BaseCase baseCase = BaseCase.BUBBLE;
+
+    /**
+     * Whether the list is sorted by merging its existing runs instead of splitting it into halves.
+     */
+    private boolean naturalMerge = false;
+
+    /**
+     * The function computing the cached key prefixes, or {@code null} if no prefixes are used.
+     */
+    private KeyPrefix<? super T> keyPrefix;
+
     /**
      * The comparator used for comparing the sorted elements.
      */
     private final CountingComparator<T> comparator;
 
+    /**
+     * The comparator without counting. It is used by the parallel tasks, which count their comparisons in
+     * {@link #parallelComparisons} instead.
+     */
+    private final Comparator<T> delegate;
+
+    /**
+     * The minimum size of a range whose halves are sorted in parallel. If it is 0, the list is sorted sequentially.
+     */
+    private int parallelThreshold = 0;
+
+    /**
+     * The pool that executes the parallel tasks.
+     */
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * The number of comparisons made by the parallel tasks during the last call of {@link #sort(SortList)}.
+     */
+    private final LongAdder parallelComparisons = new LongAdder();
+
     /**
      * Creates a new {@link HybridSort} instance.
      *
@@ -38,17 +93,83 @@ public class HybridSort<T> implements Sort<T> {
     public HybridSort(int k, Comparator<T> comparator) {
         this.k = k;
         this.comparator = new CountingComparator<>(comparator);
+        this.delegate = comparator;
+    }
+
+    /**
+     * Creates a new {@link HybridSort} with the same comparator and settings as this one, but with the given k-value.
+     * The copy has its own counters, so it can be used independently of this instance, e.g. on another thread.
+     *
+     * @param k the threshold for switching from mergeSort to the base case.
+     * @return a new {@link HybridSort} instance.
+     */
+    HybridSort<T> copy(int k) {
+        HybridSort<T> copy = new HybridSort<>(k, delegate);
+        copy.baseCase = baseCase;
+        copy.naturalMerge = naturalMerge;
+        copy.keyPrefix = keyPrefix;
+        copy.parallelThreshold = parallelThreshold;
+        copy.pool = pool;
+        return copy;
+    }
+
+    /**
+     * Returns the comparator used for comparing the sorted elements, without counting.
+     * @return the comparator given in the constructor.
+     */
+    Comparator<T> getDelegate() {
+        return delegate;
     }
 
     @Override
     public void sort(SortList<T> sortList) {
         comparator.reset();
-        mergeSort(sortList, 0, sortList.getSize() - 1);
+        parallelComparisons.reset();
+        if (sortList instanceof ArraySortList<T> arraySortList && !arraySortList.isCounting()) {
+            uncountedSort(arraySortList);
+        } else if (keyPrefix != null) {
+            new PrefixMergeSort<>(sortList, comparator, keyPrefix, k).sort();
+        } else if (naturalMerge) {
+            new NaturalMergeSort<>(sortList, comparator, baseCase, k).sort();
+        } else if (parallelThreshold > 0 && sortList.getSize() >= parallelThreshold) {
+            parallelSort(sortList);
+        } else {
+            mergeSort(sortList, 0, sortList.getSize() - 1);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The elements are read once into an array and an array of their indices is sorted using mergeSort. Ranges with
+     * less than k elements are sorted using insertion sort. The comparisons are counted as usual.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int[] argsort(SortList<T> sortList) {
+        comparator.reset();
+        parallelComparisons.reset();
+
+        int size = sortList.getSize();
+        T[] elements = (T[]) new Object[size];
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = sortList.get(i);
+            indices[i] = i;
+        }
+
+        argsort(elements, indices, new int[size], 0, size - 1);
+        return indices;
     }
 
     @Override
     public int getComparisonsCount() {
-        return comparator.getComparisonsCount();
+        return (int) Math.min(getTotalComparisonsCount(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long getTotalComparisonsCount() {
+        return comparator.getTotalComparisonsCount() + parallelComparisons.sum();
     }
 
     /**
@@ -67,12 +188,155 @@ public class HybridSort<T> implements Sort<T> {
         this.k = k;
     }
 
+    /**
+     * Returns the algorithm used for sorting the lists of size less than k.
+     * @return the current base case algorithm.
+     */
+    public BaseCase getBaseCase() {
+        return baseCase;
+    }
+
+    /**
+     * Sets the algorithm used for sorting the lists of size less than k. By default, {@link BaseCase#BUBBLE} is used.
+     * @param baseCase the new base case algorithm.
+     */
+    public void setBaseCase(BaseCase baseCase) {
+        if (baseCase == null) {
+            throw new IllegalArgumentException("base case must not be null");
+        }
+        this.baseCase = baseCase;
+    }
+
+    /**
+     * Returns whether the list is sorted by merging its existing runs.
+     * @return {@code true} if natural merge mode is enabled.
+     */
+    public boolean isNaturalMerge() {
+        return naturalMerge;
+    }
+
+    /**
+     * Enables or disables the natural merge mode.
+     * <p>
+     * In natural merge mode, the list is split into runs that are already ascending or strictly descending, similar to
+     * TimSort. Descending runs are reversed and runs shorter than k are extended and sorted using the base case. The
+     * runs are merged with galloping, so presorted input only costs a linear number of operations. The read, write and
+     * comparison counts are reported as usual. The natural merge mode takes precedence over the parallel mode.
+     *
+     * @param naturalMerge {@code true} to enable natural merge mode.
+     */
+    public void setNaturalMerge(boolean naturalMerge) {
+        this.naturalMerge = naturalMerge;
+    }
+
+    /**
+     * Returns the function computing the cached key prefixes.
+     * @return the current key prefix, or {@code null} if no prefixes are used.
+     */
+    public KeyPrefix<? super T> getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    /**
+     * Sets the function computing the cached key prefixes, or {@code null} to disable them.
+     * <p>
+     * If a key prefix is set, the elements are read into an array once and the prefix of every element is stored in a
+     * parallel {@code long} array. Elements are compared by their prefixes first, and the comparator is only called
+     * if the prefixes are equal, so only these calls are counted as comparisons. Ranges with less than k elements are
+     * sorted using insertion sort instead of the base case. The key prefix takes precedence over the natural merge and
+     * the parallel mode.
+     *
+     * @param keyPrefix the new key prefix, which has to be consistent with the comparator.
+     */
+    public void setKeyPrefix(KeyPrefix<? super T> keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * Returns the minimum size of a range whose halves are sorted in parallel.
+     * @return the parallel threshold, or 0 if the list is sorted sequentially.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the minimum size of a range whose halves are sorted in parallel. A threshold of 0 disables the parallel mode.
+     * @param parallelThreshold the new threshold.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("The parallel threshold must not be negative.");
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Sets the pool that executes the parallel tasks. By default, the {@link ForkJoinPool#commonPool() common pool} is used.
+     * @param pool the new pool.
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Sorts the given {@link SortList} in parallel.
+     * <p>
+     * The elements are read once into an array, sorted by {@link MergeTask MergeTasks} and written back once.
+     *
+     * @param sortList the {@link SortList} to be sorted.
+     */
+    @SuppressWarnings("unchecked")
+    private void parallelSort(SortList<T> sortList) {
+        int size = sortList.getSize();
+        T[] elements = (T[]) new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = sortList.get(i);
+        }
+
+        pool.invoke(new MergeTask(elements, (T[]) new Object[size], 0, size - 1, true));
+
+        for (int i = 0; i < size; i++) {
+            sortList.set(i, elements[i]);
+        }
+    }
+
+    /**
+     * Sorts the given {@link ArraySortList}, which does not count its operations, without any instrumentation.
+     * <p>
+     * The array of the list is sorted in place by an uncounted {@link MergeTask}, which is executed on {@link #pool} if
+     * the parallel mode applies. If a key prefix is set or in natural merge mode, the comparator is used directly instead
+     * of the {@link CountingComparator}.
+     *
+     * @param sortList the {@link ArraySortList} to be sorted.
+     */
+    @SuppressWarnings("unchecked")
+    private void uncountedSort(ArraySortList<T> sortList) {
+        int size = sortList.getSize();
+        if (keyPrefix != null) {
+            new PrefixMergeSort<>(sortList, delegate, keyPrefix, k).sort();
+            return;
+        }
+        if (naturalMerge) {
+            new NaturalMergeSort<>(sortList, delegate, baseCase, k).sort();
+            return;
+        }
+
+        MergeTask task = new MergeTask(sortList.elements, (T[]) new Object[size], 0, size - 1, false);
+        if (parallelThreshold > 0 && size >= parallelThreshold) {
+            pool.invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
     /**
      * Sorts the given {@link SortList} using the mergeSort algorithm.
      * It will only consider the elements between the given left and right indices (both inclusive).
      * Elements with indices less than left or greater than right will not be altered.
      * <p>
-     * Once the amount of elements to sort is less than the threshold {@link #k}, the algorithm switches to bubbleSort.
+     * Once the amount of elements to sort is less than the threshold {@link #k}, the algorithm switches to bubbleSort
+     * or the configured {@link #baseCase}.
      * @param sortList the {@link SortList} to be sorted.
      * @param left The leftmost index of the list to be sorted. (inclusive)
      * @param right The rightmost index of the list to be sorted. (inclusive)
@@ -81,7 +345,7 @@ public class HybridSort<T> implements Sort<T> {
         // Check if there is more than one element to sort
         if (left<right) {
             // If the number of elements is less than the threshold, use bubbleSort
-            if ((right-left+1)<getK()) bubbleSort(sortList, left, right);
+            if ((right-left+1)<getK()) sortBaseCase(sortList, left, right);
             else {
                 // Calculate the middle index to split the list into two halves (rounded down)
                 int mid = (left+right)/2;
@@ -95,6 +359,22 @@ public class HybridSort<T> implements Sort<T> {
         }
     }
 
+    /**
+     * Sorts the elements between the given left and right indices (both inclusive) using the configured {@link #baseCase}.
+     * {@link BaseCase#BUBBLE} is delegated to {@link #bubbleSort(SortList, int, int)}.
+     *
+     * @param sortList the {@link SortList} to be sorted.
+     * @param left The leftmost index of the list to be sorted.
+     * @param right The rightmost index of the list to be sorted.
+     */
+    private void sortBaseCase(SortList<T> sortList, int left, int right) {
+        if (baseCase == BaseCase.BUBBLE) {
+            bubbleSort(sortList, left, right);
+        } else {
+            baseCase.sort(sortList, left, right, comparator);
+        }
+    }
+
     /**
      * Merges the two sorted sublists between the indices left and right (both inclusive) of the given {@link SortList}.
      * The middle index separates the two sublists and is the last index of the left sublist.
@@ -165,4 +445,169 @@ public class HybridSort<T> implements Sort<T> {
         }
     }
 
+    /**
+     * Sorts the indices between left and right (both inclusive) by the elements they refer to.
+     *
+     * @param elements the elements to compare.
+     * @param indices the indices to sort.
+     * @param scratch the scratch array used for merging.
+     * @param left The leftmost index of the range to be sorted. (inclusive)
+     * @param right The rightmost index of the range to be sorted. (inclusive)
+     */
+    private void argsort(T[] elements, int[] indices, int[] scratch, int left, int right) {
+        if (left >= right) {
+            return;
+        }
+
+        if ((right - left + 1) < k) {
+            for (int i = left + 1; i <= right; i++) {
+                int index = indices[i];
+                int j = i - 1;
+                while (j >= left && comparator.compare(elements[indices[j]], elements[index]) > 0) {
+                    indices[j + 1] = indices[j];
+                    j--;
+                }
+                indices[j + 1] = index;
+            }
+            return;
+        }
+
+        int mid = (left + right) / 2;
+        argsort(elements, indices, scratch, left, mid);
+        argsort(elements, indices, scratch, mid + 1, right);
+
+        int p = left;
+        int q = mid + 1;
+        for (int i = left; i <= right; i++) {
+            if (q > right || (p <= mid && comparator.compare(elements[indices[p]], elements[indices[q]]) <= 0)) {
+                scratch[i] = indices[p++];
+            } else {
+                scratch[i] = indices[q++];
+            }
+        }
+        System.arraycopy(scratch, left, indices, left, right - left + 1);
+    }
+
+    /**
+     * Sorts the range between left and right (both inclusive) of an array like {@link #mergeSort(SortList, int, int)}.
+     * The halves of ranges with at least {@link #parallelThreshold} elements are sorted in parallel.
+     */
+    @SuppressWarnings("serial")
+    private class MergeTask extends RecursiveAction {
+
+        /**
+         * The elements to sort.
+         */
+        private final T[] elements;
+
+        /**
+         * The scratch array shared by all tasks. A task only uses the indices of its own range.
+         */
+        private final T[] scratch;
+
+        /**
+         * The leftmost index of the range to sort (inclusive).
+         */
+        private final int left;
+
+        /**
+         * The rightmost index of the range to sort (inclusive).
+         */
+        private final int right;
+
+        /**
+         * Whether comparisons are counted.
+         */
+        private final boolean counting;
+
+        /**
+         * The number of comparisons made by this task, excluding its subtasks.
+         */
+        private long comparisons;
+
+        MergeTask(T[] elements, T[] scratch, int left, int right, boolean counting) {
+            this.elements = elements;
+            this.scratch = scratch;
+            this.left = left;
+            this.right = right;
+            this.counting = counting;
+        }
+
+        @Override
+        protected void compute() {
+            sort(left, right);
+            if (counting) {
+                parallelComparisons.add(comparisons);
+            }
+        }
+
+        /**
+         * Sorts the range between left and right (both inclusive), forking the halves of large ranges.
+         */
+        private void sort(int left, int right) {
+            if (left >= right) {
+                return;
+            }
+
+            if ((right - left + 1) < k) {
+                if (baseCase == BaseCase.BUBBLE) {
+                    bubbleSort(left, right);
+                } else {
+                    baseCase.sort(ArraySortList.wrap(elements, false), left, right, counting ? this::compare : delegate);
+                }
+                return;
+            }
+
+            int mid = (left + right) / 2;
+            if (parallelThreshold > 0 && right - left + 1 >= parallelThreshold) {
+                invokeAll(new MergeTask(elements, scratch, left, mid, counting),
+                    new MergeTask(elements, scratch, mid + 1, right, counting));
+            } else {
+                sort(left, mid);
+                sort(mid + 1, right);
+            }
+            merge(left, mid, right);
+        }
+
+        /**
+         * Merges the sorted ranges {@code [left, middle]} and {@code [middle + 1, right]} through {@link #scratch}.
+         */
+        private void merge(int left, int middle, int right) {
+            int p = left;
+            int q = middle + 1;
+            for (int i = left; i <= right; i++) {
+                if (q > right || (p <= middle && compare(elements[p], elements[q]) <= 0)) {
+                    scratch[i] = elements[p++];
+                } else {
+                    scratch[i] = elements[q++];
+                }
+            }
+            System.arraycopy(scratch, left, elements, left, right - left + 1);
+        }
+
+        /**
+         * Sorts the range between left and right (both inclusive) using the bubbleSort algorithm.
+         */
+        private void bubbleSort(int left, int right) {
+            for (int i = right; i >= left; i--) {
+                for (int j = left; j < i; j++) {
+                    if (compare(elements[j], elements[j + 1]) > 0) {
+                        T temp = elements[j + 1];
+                        elements[j + 1] = elements[j];
+                        elements[j] = temp;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Compares the given elements using {@link #delegate} and counts the comparison if {@link #counting} is set.
+         */
+        private int compare(T a, T b) {
+            if (counting) {
+                comparisons++;
+            }
+            return delegate.compare(a, b);
+        }
+    }
 }
@@ -0,0 +1,239 @@
+package p1.sort;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.IntFunction;
+
+/**
+ * A cache of k-values for {@link HybridSort}, keyed by a cheap {@link Profile} of the input.
+ * <p>
+ * Before an array is sorted, {@link #tune(HybridSort, Object[])} computes the {@link Profile} of the array. If a k-value
+ * for that profile is cached, it is used directly. Otherwise, the k-value is determined using
+ * {@link HybridOptimizer#optimize(HybridSort, Object[])} and cached.
+ * <p>
+ * The cache holds at most a fixed number of profiles and evicts the least recently used profile first. If a file is
+ * given, the cache is loaded from that file on creation and written to it whenever a new k-value has been determined.
+ * <p>
+ * The cached k-values depend on the comparator and the base case of the {@link HybridSort}, so a cache should only be
+ * used with {@linkplain HybridSort HybridSorts} that are configured the same.
+ */
+public class HybridTuningCache {
+
+    /**
+     * The number of elements inspected for computing a {@link Profile}.
+     */
+    private static final int SAMPLE_SIZE = 256;
+
+    /**
+     * The cached k-values in least recently used order.
+     */
+    private final LinkedHashMap<Profile, Integer> entries;
+
+    /**
+     * The file the cache is persisted to, or {@code null} if the cache is not persisted.
+     */
+    private final Path file;
+
+    /**
+     * Creates a new {@link HybridTuningCache} that is not persisted.
+     *
+     * @param capacity the maximum number of cached profiles.
+     */
+    public HybridTuningCache(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * Creates a new {@link HybridTuningCache} that is persisted to the given file.
+     * If the file exists, the cached k-values are loaded from it.
+     *
+     * @param capacity the maximum number of cached profiles.
+     * @param file the file the cache is persisted to, or {@code null} if the cache should not be persisted.
+     * @throws UncheckedIOException if the file exists but cannot be read.
+     */
+    public HybridTuningCache(int capacity, Path file) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be greater than 0.");
+        }
+
+        this.file = file;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Profile, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+
+        if (file != null && Files.exists(file)) {
+            load();
+        }
+    }
+
+    /**
+     * Sets the k-value of the given {@link HybridSort} for sorting the given array.
+     * The k-value is taken from the cache if the {@link Profile} of the array is known and optimized otherwise.
+     *
+     * @param hybridSort the {@link HybridSort} to tune.
+     * @param array the array that will be sorted.
+     * @return the k-value that has been set.
+     * @param <T> the type of the elements to be sorted.
+     */
+    public synchronized <T> int tune(HybridSort<T> hybridSort, T[] array) {
+        Profile profile = Profile.of(array, hybridSort.getDelegate());
+
+        Integer k = entries.get(profile);
+        if (k == null) {
+            k = HybridOptimizer.optimize(hybridSort, array);
+            entries.put(profile, k);
+            if (file != null) {
+                save();
+            }
+        }
+
+        hybridSort.setK(k);
+        return k;
+    }
+
+    /**
+     * Returns the number of cached profiles.
+     * @return the number of cached profiles.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all cached profiles. The persisted file is not changed.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Loads the cached k-values from {@link #file}.
+     */
+    private void load() {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not load tuning cache from " + file, e);
+        }
+
+        for (String key : properties.stringPropertyNames()) {
+            entries.put(Profile.parse(key), Integer.parseInt(properties.getProperty(key)));
+        }
+    }
+
+    /**
+     * Writes the cached k-values to {@link #file}.
+     */
+    private void save() {
+        Properties properties = new Properties();
+        entries.forEach((profile, k) -> properties.setProperty(profile.toString(), Integer.toString(k)));
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            properties.store(writer, "HybridSort k-values");
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not save tuning cache to " + file, e);
+        }
+    }
+
+    /**
+     * A coarse description of an input that is used as the key of the cache.
+     *
+     * @param sizeClass the base 2 logarithm of the number of elements, rounded down.
+     * @param presortedness the share of ascending neighbors in the sample in tenths, from 0 to 10.
+     * @param duplicates the share of duplicate elements in the sample in tenths, from 0 to 10.
+     */
+    public record Profile(int sizeClass, int presortedness, int duplicates) {
+
+        /**
+         * Computes the {@link Profile} of the given array by inspecting at most
+         * {@link HybridTuningCache#SAMPLE_SIZE} evenly spaced elements and their right neighbors.
+         *
+         * @param array the array to describe.
+         * @param comparator the comparator used for comparing the elements.
+         * @return the profile of the array.
+         * @param <T> the type of the elements.
+         */
+        public static <T> Profile of(T[] array, Comparator<? super T> comparator) {
+            return of(array.length, index -> array[index], comparator);
+        }
+
+        /**
+         * Computes the {@link Profile} of the given {@link SortList} like {@link #of(Object[], Comparator)}. The
+         * inspected elements are read using {@link SortList#get(int)}.
+         *
+         * @param sortList the list to describe.
+         * @param comparator the comparator used for comparing the elements.
+         * @return the profile of the list.
+         * @param <T> the type of the elements.
+         */
+        public static <T> Profile of(SortList<T> sortList, Comparator<? super T> comparator) {
+            return of(sortList.getSize(), sortList::get, comparator);
+        }
+
+        /**
+         * Computes the {@link Profile} of n elements that are accessed through the given function.
+         */
+        private static <T> Profile of(int n, IntFunction<T> elements, Comparator<? super T> comparator) {
+            int sizeClass = n == 0 ? 0 : 31 - Integer.numberOfLeadingZeros(n);
+            if (n < 2) {
+                return new Profile(sizeClass, 10, 0);
+            }
+
+            int samples = Math.min(SAMPLE_SIZE, n - 1);
+            int step = (n - 1) / samples;
+            int ascending = 0;
+            @SuppressWarnings("unchecked")
+            T[] sample = (T[]) new Object[samples];
+            for (int i = 0; i < samples; i++) {
+                T value = elements.apply(i * step);
+                sample[i] = value;
+                if (comparator.compare(value, elements.apply(i * step + 1)) <= 0) {
+                    ascending++;
+                }
+            }
+
+            // Count the duplicates in the sorted sample
+            Arrays.sort(sample, comparator);
+            int duplicates = 0;
+            for (int i = 1; i < samples; i++) {
+                if (comparator.compare(sample[i - 1], sample[i]) == 0) {
+                    duplicates++;
+                }
+            }
+
+            return new Profile(sizeClass, ascending * 10 / samples, duplicates * 10 / samples);
+        }
+
+        /**
+         * Parses a {@link Profile} from the format returned by {@link #toString()}.
+         *
+         * @param string the string to parse.
+         * @return the parsed profile.
+         * @throws IllegalArgumentException if the string is not a valid profile.
+         */
+        public static Profile parse(String string) {
+            String[] parts = string.split("/");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid profile: " + string);
+            }
+            return new Profile(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        }
+
+        @Override
+        public String toString() {
+            return sizeClass + "/" + presortedness + "/" + duplicates;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package p1.sort;
+
+/**
+ * A variant of {@link HybridSort} that sorts {@code int} values in ascending order without boxing them.
+ * <p>
+ * It uses the same combination of mergeSort and bubbleSort as {@link HybridSort}, but operates directly on the
+ * primitive accessors of an {@link IntSortList}. The temporary array used for merging is allocated once per call of
+ * {@link #sort(SortList)} instead of once per merge.
+ * <p>
+ * Lists that are not an {@link IntSortList} are copied into an uncounted {@link IntSortList}, sorted and copied back.
+ *
+ * @see HybridSort
+ * @see IntSortList
+ */
+public class IntHybridSort implements Sort<Integer> {
+
+    /**
+     * The threshold for switching from mergeSort to bubbleSort.
+     */
+    private int k;
+
+    /**
+     * The number of comparisons made during the last call of {@link #sort(SortList)}.
+     */
+    private int comparisons;
+
+    /**
+     * The temporary array used for merging. It is only used during a call of {@link #sort(SortList)}.
+     */
+    private int[] temp;
+
+    /**
+     * Creates a new {@link IntHybridSort} instance.
+     *
+     * @param k the threshold for switching from mergeSort to bubbleSort.
+     */
+    public IntHybridSort(int k) {
+        this.k = k;
+    }
+
+    @Override
+    public void sort(SortList<Integer> sortList) {
+        if (sortList instanceof IntSortList intSortList) {
+            sort(intSortList);
+            return;
+        }
+
+        int[] values = new int[sortList.getSize()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sortList.get(i);
+        }
+        IntSortList copy = new IntSortList(values, false);
+        sort(copy);
+        for (int i = 0; i < values.length; i++) {
+            sortList.set(i, copy.elements[i]);
+        }
+    }
+
+    /**
+     * Sorts the given {@link IntSortList} in ascending order.
+     * @param sortList the {@link IntSortList} to sort.
+     */
+    public void sort(IntSortList sortList) {
+        comparisons = 0;
+        temp = new int[sortList.getSize()];
+        try {
+            mergeSort(sortList, 0, sortList.getSize() - 1);
+        } finally {
+            temp = null;
+        }
+    }
+
+    @Override
+    public int getComparisonsCount() {
+        return comparisons;
+    }
+
+    /**
+     * Returns the current threshold for switching from mergeSort to bubbleSort.
+     * @return the current threshold for switching from mergeSort to bubbleSort.
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Sets the threshold for switching from mergeSort to bubbleSort.
+     * @param k the new threshold.
+     */
+    public void setK(int k) {
+        this.k = k;
+    }
+
+    /**
+     * Sorts the elements between the given left and right indices (both inclusive) using the mergeSort algorithm.
+     * Once the amount of elements to sort is less than the threshold {@link #k}, the algorithm switches to bubbleSort.
+     *
+     * @param sortList the {@link IntSortList} to be sorted.
+     * @param left The leftmost index of the list to be sorted. (inclusive)
+     * @param right The rightmost index of the list to be sorted. (inclusive)
+     */
+    private void mergeSort(IntSortList sortList, int left, int right) {
+        if (left < right) {
+            if ((right - left + 1) < k) {
+                bubbleSort(sortList, left, right);
+            } else {
+                int mid = (left + right) / 2;
+                mergeSort(sortList, left, mid);
+                mergeSort(sortList, mid + 1, right);
+                merge(sortList, left, mid, right);
+            }
+        }
+    }
+
+    /**
+     * Merges the two sorted sublists {@code [left, middle]} and {@code [middle + 1, right]} through {@link #temp}.
+     *
+     * @param sortList the {@link IntSortList} to be sorted.
+     * @param left The leftmost index of the two sublists to be merged. (inclusive)
+     * @param middle The last index that belongs to the left sublist.
+     * @param right The rightmost index of the two sublists to be merged. (inclusive)
+     */
+    private void merge(IntSortList sortList, int left, int middle, int right) {
+        int p = left;
+        int q = middle + 1;
+
+        for (int i = left; i <= right; i++) {
+            if (q > right) {
+                temp[i] = sortList.getInt(p++);
+            } else if (p > middle) {
+                temp[i] = sortList.getInt(q++);
+            } else {
+                int a = sortList.getInt(p);
+                int b = sortList.getInt(q);
+                comparisons++;
+                if (a <= b) {
+                    temp[i] = a;
+                    p++;
+                } else {
+                    temp[i] = b;
+                    q++;
+                }
+            }
+        }
+
+        for (int i = left; i <= right; i++) {
+            sortList.setInt(i, temp[i]);
+        }
+    }
+
+    /**
+     * Sorts the elements between the given left and right indices (both inclusive) using the bubbleSort algorithm.
+     *
+     * @param sortList the {@link IntSortList} to be sorted.
+     * @param left The leftmost index of the list to be sorted.
+     * @param right The rightmost index of the list to be sorted.
+     */
+    private void bubbleSort(IntSortList sortList, int left, int right) {
+        for (int i = right; i >= left; i--) {
+            for (int j = left; j < i; j++) {
+                int a = sortList.getInt(j);
+                int b = sortList.getInt(j + 1);
+                comparisons++;
+                if (a > b) {
+                    sortList.setInt(j + 1, a);
+                    sortList.setInt(j, b);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package p1.sort;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An implementation of {@link SortList} that stores {@code int} values in a primitive array.
+ * <p>
+ * In contrast to an {@link ArraySortList} of {@link Integer Integers}, the values are not boxed. The primitive accessors
+ * {@link #getInt(int)} and {@link #setInt(int, int)} can be used by sorting algorithms to avoid any allocation while sorting.
+ * <p>
+ * Counting the read and write operations is optional. If counting is disabled, {@link #getReadCount()} and
+ * {@link #getWriteCount()} always return 0.
+ * <p>
+ * Since a primitive array cannot contain gaps, {@code null} values are not supported.
+ */
+public class IntSortList implements SortList<Integer> {
+
+    /**
+     * The array that stores the elements.
+     */
+    int[] elements;
+
+    /**
+     * Whether read and write operations are counted.
+     */
+    private final boolean counting;
+
+    /**
+     * The number of read operations performed on this {@link IntSortList}.
+     */
+    private int readCount = 0;
+
+    /**
+     * The number of write operations performed on this {@link IntSortList}.
+     */
+    private int writeCount = 0;
+
+    /**
+     * Creates a new {@link IntSortList} with the specified elements that counts its read and write operations.
+     * @param elements the elements to store in this {@link IntSortList}.
+     */
+    public IntSortList(int[] elements) {
+        this(elements, true);
+    }
+
+    /**
+     * Creates a new {@link IntSortList} with the specified elements.
+     * @param elements the elements to store in this {@link IntSortList}.
+     * @param counting whether read and write operations should be counted.
+     */
+    public IntSortList(int[] elements, boolean counting) {
+        this.elements = Arrays.copyOf(elements, elements.length);
+        this.counting = counting;
+    }
+
+    /**
+     * Creates a new {@link IntSortList} with the specified size that counts its read and write operations.
+     * All elements are initialized with 0.
+     * @param size the size of the {@link IntSortList}.
+     */
+    public IntSortList(int size) {
+        this(new int[size], true);
+    }
+
+    /**
+     * Returns the element at the specified index in this {@link IntSortList} without boxing it.
+     * <p>
+     * Calling this method causes one read operation to be performed.
+     *
+     * @param index the index of the element to return.
+     * @return the element at the specified index.
+     */
+    public int getInt(int index) {
+        if (counting) {
+            readCount++;
+        }
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at the specified index in this {@link IntSortList} without boxing it.
+     * <p>
+     * Calling this method causes one write operation to be performed.
+     *
+     * @param index the index of the element to replace.
+     * @param value the element to be stored at the specified index.
+     */
+    public void setInt(int index, int value) {
+        if (counting) {
+            writeCount++;
+        }
+        elements[index] = value;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public void set(int index, Integer value) {
+        if (value == null) {
+            throw new NullPointerException("IntSortList cannot store null elements");
+        }
+        setInt(index, value);
+    }
+
+    /**
+     * Not supported, since a primitive array cannot contain gaps.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public Integer remove(int index) {
+        throw new UnsupportedOperationException("IntSortList cannot store null elements");
+    }
+
+    @Override
+    public int getSize() {
+        return elements.length;
+    }
+
+    @Override
+    public @NotNull Iterator<Integer> iterator() {
+        return Arrays.stream(elements).iterator();
+    }
+
+    /**
+     * Returns whether read and write operations are counted by this {@link IntSortList}.
+     * @return {@code true} if operations are counted.
+     */
+    public boolean isCounting() {
+        return counting;
+    }
+
+    @Override
+    public int getReadCount() {
+        return readCount;
+    }
+
+    @Override
+    public int getWriteCount() {
+        return writeCount;
+    }
+
+    @Override
+    public Integer[] toArray() {
+        return Arrays.stream(elements).boxed().toArray(Integer[]::new);
+    }
+
+    /**
+     * Returns a primitive array containing all elements in this {@link IntSortList} in proper sequence.
+     * @return an array of all elements in this {@link IntSortList}.
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(elements, elements.length);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(elements);
+    }
+}
@@ -0,0 +1,247 @@
+package p1.sort;
+
+import p1.comparator.CountingComparator;
+
+import java.util.Comparator;
+
+/**
+ * An in-place introsort with three-way partitioning.
+ * <p>
+ * Ranges are partitioned into the elements less than, equal to and greater than a pivot (Dijkstra's dutch national
+ * flag partitioning). The equal elements are already in place, so a range with only a few distinct values is sorted
+ * in linear time per distinct value and a range of equal elements in a single pass. The pivot is the median of the
+ * first, middle and last element. If a partition leaves less than an eighth of the elements that are not equal to the
+ * pivot on one side, the next pivot of that range is the median of medians of groups of five instead, which guarantees
+ * a balanced partition. If the recursion gets deeper than {@code 2 log n} nonetheless, the range is sorted using
+ * heapsort. Ranges with less than {@link #INSERTION_THRESHOLD} elements are sorted using insertion sort.
+ * <p>
+ * All elements are accessed through {@link SortList#get(int)} and {@link SortList#set(int, Object)} and compared using
+ * a {@link CountingComparator}, so no temporary buffer is needed and the operations are counted as in
+ * {@link HybridSort}. The sort is <b>not</b> stable.
+ *
+ * @param <T> the type of the elements to be sorted.
+ *
+ * @see Sort
+ */
+public class IntroSort<T> implements Sort<T> {
+
+    /**
+     * Ranges with fewer elements than this are sorted using insertion sort.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * The comparator used for comparing the sorted elements.
+     */
+    private final CountingComparator<T> comparator;
+
+    /**
+     * Creates a new {@link IntroSort} instance.
+     *
+     * @param comparator the comparator used for comparing the sorted elements.
+     */
+    public IntroSort(Comparator<T> comparator) {
+        this.comparator = new CountingComparator<>(comparator);
+    }
+
+    @Override
+    public void sort(SortList<T> sortList) {
+        comparator.reset();
+        int size = sortList.getSize();
+        if (size > 1) {
+            introSort(sortList, 0, size - 1, 2 * (31 - Integer.numberOfLeadingZeros(size)), false);
+        }
+    }
+
+    @Override
+    public int getComparisonsCount() {
+        return comparator.getComparisonsCount();
+    }
+
+    @Override
+    public long getTotalComparisonsCount() {
+        return comparator.getTotalComparisonsCount();
+    }
+
+    /**
+     * Sorts the range between left and right (both inclusive). The smaller partition is sorted recursively and the
+     * larger one iteratively, so the recursion depth is logarithmic.
+     *
+     * @param sortList the {@link SortList} to be sorted.
+     * @param left The leftmost index of the range to be sorted. (inclusive)
+     * @param right The rightmost index of the range to be sorted. (inclusive)
+     * @param depthLimit the remaining depth before switching to heapsort.
+     * @param unbalanced whether the last partition of this range was unbalanced.
+     */
+    private void introSort(SortList<T> sortList, int left, int right, int depthLimit, boolean unbalanced) {
+        while (right - left + 1 >= INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(sortList, left, right);
+                return;
+            }
+
+            int pivotIndex = unbalanced
+                ? medianOfMedians(sortList, left, right)
+                : medianOfThree(sortList, left, (left + right) >>> 1, right);
+            int[] bounds = partition(sortList, left, right, sortList.get(pivotIndex));
+            int lt = bounds[0];
+            int gt = bounds[1];
+
+            // Elements equal to the pivot are already in place, so only the remaining ones count towards the balance
+            int remaining = (lt - left) + (right - gt);
+            unbalanced = Math.min(lt - left, right - gt) < remaining / 8;
+            if (lt - left < right - gt) {
+                introSort(sortList, left, lt - 1, depthLimit, unbalanced);
+                left = gt + 1;
+            } else {
+                introSort(sortList, gt + 1, right, depthLimit, unbalanced);
+                right = lt - 1;
+            }
+        }
+        BaseCase.INSERTION.sort(sortList, left, right, comparator);
+    }
+
+    /**
+     * Partitions the range between left and right (both inclusive) into the elements less than, equal to and greater
+     * than the given pivot.
+     *
+     * @param sortList the {@link SortList} to be partitioned.
+     * @param left The leftmost index of the range. (inclusive)
+     * @param right The rightmost index of the range. (inclusive)
+     * @param pivot the pivot.
+     * @return the first and the last index of the elements equal to the pivot.
+     */
+    private int[] partition(SortList<T> sortList, int left, int right, T pivot) {
+        int lt = left;
+        int gt = right;
+        int i = left;
+        while (i <= gt) {
+            T value = sortList.get(i);
+            int result = comparator.compare(value, pivot);
+            if (result < 0) {
+                swap(sortList, lt++, i++, value);
+            } else if (result > 0) {
+                swap(sortList, gt--, i, value);
+            } else {
+                i++;
+            }
+        }
+        return new int[]{lt, gt};
+    }
+
+    /**
+     * Returns the index of the median of the elements at the three given indices.
+     */
+    private int medianOfThree(SortList<T> sortList, int a, int b, int c) {
+        T x = sortList.get(a);
+        T y = sortList.get(b);
+        T z = sortList.get(c);
+        if (comparator.compare(x, y) < 0) {
+            if (comparator.compare(y, z) < 0) {
+                return b;
+            }
+            return comparator.compare(x, z) < 0 ? c : a;
+        }
+        if (comparator.compare(x, z) < 0) {
+            return a;
+        }
+        return comparator.compare(y, z) < 0 ? c : b;
+    }
+
+    /**
+     * Returns the index of the median of medians of the range between left and right (both inclusive). The range is
+     * split into groups of five, every group is sorted and its median is moved to the front of the range. The median
+     * of these medians is then selected recursively.
+     *
+     * @param sortList the {@link SortList} to search.
+     * @param left The leftmost index of the range. (inclusive)
+     * @param right The rightmost index of the range. (inclusive)
+     * @return the index of the median of medians.
+     */
+    private int medianOfMedians(SortList<T> sortList, int left, int right) {
+        if (right - left < 5) {
+            BaseCase.INSERTION.sort(sortList, left, right, comparator);
+            return (left + right) >>> 1;
+        }
+
+        int medians = 0;
+        for (int groupLeft = left; groupLeft <= right; groupLeft += 5) {
+            int groupRight = Math.min(groupLeft + 4, right);
+            BaseCase.INSERTION.sort(sortList, groupLeft, groupRight, comparator);
+            int median = (groupLeft + groupRight) >>> 1;
+            swap(sortList, left + medians, median, sortList.get(median));
+            medians++;
+        }
+
+        int middle = left + (medians - 1) / 2;
+        select(sortList, left, left + medians - 1, middle);
+        return middle;
+    }
+
+    /**
+     * Moves the element that belongs to index n in the sorted range between left and right (both inclusive) to index
+     * n, using the median of medians as pivot. It needs a linear number of comparisons in the worst case.
+     */
+    private void select(SortList<T> sortList, int left, int right, int n) {
+        while (right - left >= 5) {
+            int[] bounds = partition(sortList, left, right, sortList.get(medianOfMedians(sortList, left, right)));
+            if (n < bounds[0]) {
+                right = bounds[0] - 1;
+            } else if (n > bounds[1]) {
+                left = bounds[1] + 1;
+            } else {
+                return;
+            }
+        }
+        BaseCase.INSERTION.sort(sortList, left, right, comparator);
+    }
+
+    /**
+     * Sorts the range between left and right (both inclusive) using heapsort.
+     */
+    private void heapSort(SortList<T> sortList, int left, int right) {
+        int size = right - left + 1;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(sortList, left, size, i);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(sortList, left + end, left, sortList.get(left));
+            siftDown(sortList, left, end, 0);
+        }
+    }
+
+    /**
+     * Moves the element at index i of the max-heap of the given size starting at base down until the heap property
+     * holds.
+     */
+    private void siftDown(SortList<T> sortList, int base, int size, int i) {
+        T value = sortList.get(base + i);
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            T larger = sortList.get(base + child);
+            if (child + 1 < size) {
+                T right = sortList.get(base + child + 1);
+                if (comparator.compare(right, larger) > 0) {
+                    child++;
+                    larger = right;
+                }
+            }
+            if (comparator.compare(larger, value) <= 0) {
+                break;
+            }
+            sortList.set(base + i, larger);
+            i = child;
+        }
+        sortList.set(base + i, value);
+    }
+
+    /**
+     * Swaps the element at index i with the given value, which is the element at index j.
+     */
+    private static <T> void swap(SortList<T> sortList, int i, int j, T value) {
+        if (i != j) {
+            sortList.set(j, sortList.get(i));
+            sortList.set(i, value);
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package p1.sort;
+
+import p1.comparator.CountingComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Merges k sorted {@link SortList SortLists} into one sorted sequence using a loser tree.
+ * <p>
+ * The loser tree is a tournament tree over the current heads of the lists. Every inner node stores the list that lost
+ * the match at that node, and the overall winner is stored separately. After the winner has been emitted, only the
+ * matches on the path from its leaf to the root are replayed, so every element costs at most {@code ceil(log k)}
+ * comparisons and merging n elements costs {@code O(n log k)} comparisons instead of the {@code O(n log n)} of sorting
+ * the concatenation. Equal elements are emitted in the order of their lists, so the merge is stable.
+ * <p>
+ * The merged elements can be collected into a new {@link SortList} using {@link #merge(List)}, or streamed using
+ * {@link #merge(List, Consumer)} and {@link #iterator(List)}. If the parallelism is greater than 1,
+ * {@link #merge(List)} picks splitters from a sample of the lists, splits every list at the splitters using binary
+ * search and merges the resulting parts independently on a {@link ForkJoinPool}.
+ * <p>
+ * The elements are read using {@link SortList#get(int)} and compared using a concurrent {@link CountingComparator}.
+ * In parallel mode, the lists are read concurrently, so lists whose read operations should be counted exactly have to
+ * count in a thread-safe way, e.g. a {@link ConcurrentCountingSortList}.
+ *
+ * @param <T> the type of the elements to be merged.
+ */
+public class KWayMerge<T> {
+
+    /**
+     * The number of elements sampled from the lists per part for picking the splitters.
+     */
+    private static final int SAMPLES_PER_PART = 16;
+
+    /**
+     * The comparator used for comparing the elements.
+     */
+    private final CountingComparator<T> comparator;
+
+    /**
+     * The number of parts that are merged in parallel by {@link #merge(List)}. If it is 1, the lists are merged
+     * sequentially.
+     */
+    private int parallelism = 1;
+
+    /**
+     * The pool that executes the parallel merges.
+     */
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * Creates a new {@link KWayMerge} instance.
+     *
+     * @param comparator the comparator the lists are sorted by.
+     */
+    public KWayMerge(Comparator<T> comparator) {
+        this.comparator = new CountingComparator<>(comparator, true);
+    }
+
+    /**
+     * Merges the given sorted lists into a new {@link SortList}. The writes to the new list are not counted.
+     *
+     * @param sortLists the sorted lists to merge.
+     * @return a new {@link SortList} with the elements of all lists in sorted order.
+     */
+    public SortList<T> merge(List<? extends SortList<T>> sortLists) {
+        comparator.reset();
+        int k = sortLists.size();
+        int[] from = new int[k];
+        int[] to = new int[k];
+        int total = 0;
+        for (int i = 0; i < k; i++) {
+            to[i] = sortLists.get(i).getSize();
+            total += to[i];
+        }
+
+        ArraySortList<T> output = new ArraySortList<>(total);
+        T[] elements = output.elements;
+        if (parallelism <= 1 || total < parallelism * SAMPLES_PER_PART) {
+            int[] position = {0};
+            new LoserTree(sortLists, from, to).forEachRemaining(value -> elements[position[0]++] = value);
+            return output;
+        }
+
+        int[][] bounds = split(sortLists);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        int offset = 0;
+        for (int part = 0; part < parallelism; part++) {
+            int[] partFrom = bounds[part];
+            int[] partTo = bounds[part + 1];
+            int start = offset;
+            for (int i = 0; i < k; i++) {
+                offset += partTo[i] - partFrom[i];
+            }
+            tasks.add(pool.submit(() -> {
+                int position = start;
+                LoserTree tree = new LoserTree(sortLists, partFrom, partTo);
+                while (tree.hasNext()) {
+                    elements[position++] = tree.next();
+                }
+            }));
+        }
+        tasks.forEach(ForkJoinTask::join);
+        return output;
+    }
+
+    /**
+     * Merges the given sorted lists and passes the elements to the given consumer in sorted order. The lists are
+     * merged sequentially.
+     *
+     * @param sortLists the sorted lists to merge.
+     * @param consumer the consumer of the merged elements.
+     */
+    public void merge(List<? extends SortList<T>> sortLists, Consumer<? super T> consumer) {
+        iterator(sortLists).forEachRemaining(consumer);
+    }
+
+    /**
+     * Returns an iterator over the elements of the given sorted lists in sorted order. The elements are merged lazily,
+     * so the lists must not be modified while iterating.
+     *
+     * @param sortLists the sorted lists to merge.
+     * @return an iterator over the merged elements.
+     */
+    public Iterator<T> iterator(List<? extends SortList<T>> sortLists) {
+        comparator.reset();
+        int k = sortLists.size();
+        int[] to = new int[k];
+        for (int i = 0; i < k; i++) {
+            to[i] = sortLists.get(i).getSize();
+        }
+        return new LoserTree(sortLists, new int[k], to);
+    }
+
+    /**
+     * Returns the number of comparisons made since the start of the last merge.
+     * @return the number of comparisons made since the start of the last merge.
+     */
+    public int getComparisonsCount() {
+        return comparator.getComparisonsCount();
+    }
+
+    /**
+     * Returns the number of comparisons made since the start of the last merge as a {@code long}.
+     * @return the number of comparisons made since the start of the last merge.
+     */
+    public long getTotalComparisonsCount() {
+        return comparator.getTotalComparisonsCount();
+    }
+
+    /**
+     * Returns the number of parts that are merged in parallel.
+     * @return the parallelism, or 1 if the lists are merged sequentially.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of parts that are merged in parallel by {@link #merge(List)}. A parallelism of 1 disables the
+     * parallel mode.
+     * @param parallelism the new parallelism.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be greater than 0.");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets the pool that executes the parallel merges. By default, the {@link ForkJoinPool#commonPool() common pool}
+     * is used.
+     * @param pool the new pool.
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Splits the given lists into {@link #parallelism} parts of about equal total size.
+     * <p>
+     * Evenly spaced elements of every list are sampled and sorted, and the splitters are picked at even distances of
+     * the sorted sample. Every list that is not empty contributes at least one element to the sample. Every list is
+     * split at the first element that is not less than a splitter, so equal elements always end up in the same part
+     * and the merge stays stable.
+     *
+     * @param sortLists the lists to split.
+     * @return the first index of every part in every list, indexed by part and list. The last row holds the sizes of
+     * the lists.
+     */
+    @SuppressWarnings("unchecked")
+    private int[][] split(List<? extends SortList<T>> sortLists) {
+        int k = sortLists.size();
+        int total = 0;
+        for (SortList<T> sortList : sortLists) {
+            total += sortList.getSize();
+        }
+
+        // Sample every list proportionally to its size, but at least once if it is not empty, so the sample is never
+        // empty even if there are more lists than samples
+        int samples = parallelism * SAMPLES_PER_PART;
+        List<T> sample = new ArrayList<>(samples + k);
+        for (SortList<T> sortList : sortLists) {
+            int size = sortList.getSize();
+            int count = size == 0 ? 0 : (int) Math.max((long) samples * size / total, 1);
+            for (int j = 0; j < count; j++) {
+                sample.add(sortList.get((int) ((long) j * size / count)));
+            }
+        }
+        T[] sorted = (T[]) sample.toArray();
+        Arrays.sort(sorted, comparator);
+
+        int[][] bounds = new int[parallelism + 1][k];
+        for (int i = 0; i < k; i++) {
+            bounds[parallelism][i] = sortLists.get(i).getSize();
+        }
+        for (int part = 1; part < parallelism; part++) {
+            T splitter = sorted[part * sorted.length / parallelism];
+            for (int i = 0; i < k; i++) {
+                bounds[part][i] = lowerBound(sortLists.get(i), bounds[part - 1][i], splitter);
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Returns the first index at or after from whose element is not less than the given key.
+     */
+    private int lowerBound(SortList<T> sortList, int from, T key) {
+        int low = from;
+        int high = sortList.getSize();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(sortList.get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A loser tree over the ranges of k lists, which emits the elements of all ranges in sorted order.
+     */
+    private class LoserTree implements Iterator<T> {
+
+        /**
+         * The lists to merge.
+         */
+        private final List<? extends SortList<T>> sortLists;
+
+        /**
+         * The index of the current head of every list.
+         */
+        private final int[] next;
+
+        /**
+         * The index after the last element of every range (exclusive).
+         */
+        private final int[] to;
+
+        /**
+         * The current head of every list, or {@code null} if the list is exhausted.
+         */
+        private final T[] heads;
+
+        /**
+         * Whether a list is exhausted. An exhausted list loses every match.
+         */
+        private final boolean[] exhausted;
+
+        /**
+         * The losers of the matches at the inner nodes. Index 0 holds the overall winner.
+         */
+        private final int[] tree;
+
+        /**
+         * Creates a new {@link LoserTree} over the given ranges.
+         *
+         * @param sortLists the lists to merge.
+         * @param from the first index of the range of every list (inclusive).
+         * @param to the last index of the range of every list (exclusive).
+         */
+        @SuppressWarnings("unchecked")
+        LoserTree(List<? extends SortList<T>> sortLists, int[] from, int[] to) {
+            int k = sortLists.size();
+            this.sortLists = sortLists;
+            this.next = from.clone();
+            this.to = to;
+            this.heads = (T[]) new Object[k];
+            this.exhausted = new boolean[k];
+            this.tree = new int[Math.max(k, 1)];
+
+            for (int i = 0; i < k; i++) {
+                advance(i);
+            }
+
+            // Every node starts with a virtual list that wins every match, so all lists replay their path once
+            Arrays.fill(tree, k);
+            for (int i = k - 1; i >= 0; i--) {
+                replay(i);
+            }
+            if (k == 0) {
+                tree[0] = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return tree[0] < heads.length && !exhausted[tree[0]];
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int winner = tree[0];
+            T value = heads[winner];
+            advance(winner);
+            replay(winner);
+            return value;
+        }
+
+        /**
+         * Reads the next element of the given list into {@link #heads}.
+         */
+        private void advance(int list) {
+            if (next[list] < to[list]) {
+                heads[list] = sortLists.get(list).get(next[list]++);
+            } else {
+                heads[list] = null;
+                exhausted[list] = true;
+            }
+        }
+
+        /**
+         * Replays the matches on the path from the leaf of the given list to the root.
+         */
+        private void replay(int list) {
+            int winner = list;
+            for (int node = (list + heads.length) >>> 1; node > 0; node >>>= 1) {
+                if (beats(tree[node], winner)) {
+                    int loser = winner;
+                    winner = tree[node];
+                    tree[node] = loser;
+                }
+            }
+            tree[0] = winner;
+        }
+
+        /**
+         * Returns whether list a wins the match against list b. The virtual list k beats all others, exhausted lists
+         * lose all matches and ties are won by the list with the smaller index.
+         */
+        private boolean beats(int a, int b) {
+            int k = heads.length;
+            if (a == k || b == k) {
+                return a == k && b != k;
+            }
+            if (exhausted[a] || exhausted[b]) {
+                return !exhausted[a] || (exhausted[b] && a < b);
+            }
+            int result = comparator.compare(heads[a], heads[b]);
+            return result < 0 || (result == 0 && a < b);
+        }
+    }
+}
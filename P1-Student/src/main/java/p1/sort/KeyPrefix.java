@@ -0,0 +1,49 @@
+package p1.sort;
+
+/**
+ * Computes a packed 8-byte prefix of the sort key of an element, used by {@link HybridSort} to avoid calls of the
+ * comparator.
+ *
+ * <p>The prefixes are compared as unsigned longs. They have to be consistent with the comparator: if the prefix of
+ * {@code a} is less than the prefix of {@code b}, then {@code a} has to be less than {@code b}. Equal prefixes do not
+ * imply anything, in which case the comparator decides.
+ *
+ * @param <T> the type of the elements.
+ *
+ * @see HybridSort#setKeyPrefix(KeyPrefix)
+ */
+@FunctionalInterface
+public interface KeyPrefix<T> {
+
+    /**
+     * The prefix of {@link Integer} values in natural order. It is exact, so the comparator is only called for equal
+     * values.
+     */
+    KeyPrefix<Integer> INTEGER = value -> (long) value - Integer.MIN_VALUE;
+
+    /**
+     * The prefix of {@link Long} values in natural order. It is exact, so the comparator is only called for equal
+     * values.
+     */
+    KeyPrefix<Long> LONG = value -> value ^ Long.MIN_VALUE;
+
+    /**
+     * The prefix of {@link String} values in the order of {@link String#compareTo(String)}. It consists of the first
+     * four UTF-16 code units, padded with zeros for shorter strings.
+     */
+    KeyPrefix<String> STRING = value -> {
+        long prefix = 0;
+        for (int i = 0; i < 4; i++) {
+            prefix = prefix << 16 | (i < value.length() ? value.charAt(i) : 0);
+        }
+        return prefix;
+    };
+
+    /**
+     * Returns the prefix of the given element.
+     *
+     * @param value the element.
+     * @return the prefix of the element.
+     */
+    long prefix(T value);
+}
@@ -0,0 +1,171 @@
+package p1.sort;
+
+/**
+ * A variant of {@link HybridSort} that sorts {@code long} values in ascending order without boxing them.
+ * <p>
+ * It uses the same combination of mergeSort and bubbleSort as {@link HybridSort}, but operates directly on the
+ * primitive accessors of a {@link LongSortList}. The temporary array used for merging is allocated once per call of
+ * {@link #sort(SortList)} instead of once per merge.
+ * <p>
+ * Lists that are not a {@link LongSortList} are copied into an uncounted {@link LongSortList}, sorted and copied back.
+ *
+ * @see HybridSort
+ * @see LongSortList
+ */
+public class LongHybridSort implements Sort<Long> {
+
+    /**
+     * The threshold for switching from mergeSort to bubbleSort.
+     */
+    private int k;
+
+    /**
+     * The number of comparisons made during the last call of {@link #sort(SortList)}.
+     */
+    private int comparisons;
+
+    /**
+     * The temporary array used for merging. It is only used during a call of {@link #sort(SortList)}.
+     */
+    private long[] temp;
+
+    /**
+     * Creates a new {@link LongHybridSort} instance.
+     *
+     * @param k the threshold for switching from mergeSort to bubbleSort.
+     */
+    public LongHybridSort(int k) {
+        this.k = k;
+    }
+
+    @Override
+    public void sort(SortList<Long> sortList) {
+        if (sortList instanceof LongSortList longSortList) {
+            sort(longSortList);
+            return;
+        }
+
+        long[] values = new long[sortList.getSize()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sortList.get(i);
+        }
+        LongSortList copy = new LongSortList(values, false);
+        sort(copy);
+        for (int i = 0; i < values.length; i++) {
+            sortList.set(i, copy.elements[i]);
+        }
+    }
+
+    /**
+     * Sorts the given {@link LongSortList} in ascending order.
+     * @param sortList the {@link LongSortList} to sort.
+     */
+    public void sort(LongSortList sortList) {
+        comparisons = 0;
+        temp = new long[sortList.getSize()];
+        try {
+            mergeSort(sortList, 0, sortList.getSize() - 1);
+        } finally {
+            temp = null;
+        }
+    }
+
+    @Override
+    public int getComparisonsCount() {
+        return comparisons;
+    }
+
+    /**
+     * Returns the current threshold for switching from mergeSort to bubbleSort.
+     * @return the current threshold for switching from mergeSort to bubbleSort.
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Sets the threshold for switching from mergeSort to bubbleSort.
+     * @param k the new threshold.
+     */
+    public void setK(int k) {
+        this.k = k;
+    }
+
+    /**
+     * Sorts the elements between the given left and right indices (both inclusive) using the mergeSort algorithm.
+     * Once the amount of elements to sort is less than the threshold {@link #k}, the algorithm switches to bubbleSort.
+     *
+     * @param sortList the {@link LongSortList} to be sorted.
+     * @param left The leftmost index of the list to be sorted. (inclusive)
+     * @param right The rightmost index of the list to be sorted. (inclusive)
+     */
+    private void mergeSort(LongSortList sortList, int left, int right) {
+        if (left < right) {
+            if ((right - left + 1) < k) {
+                bubbleSort(sortList, left, right);
+            } else {
+                int mid = (left + right) / 2;
+                mergeSort(sortList, left, mid);
+                mergeSort(sortList, mid + 1, right);
+                merge(sortList, left, mid, right);
+            }
+        }
+    }
+
+    /**
+     * Merges the two sorted sublists {@code [left, middle]} and {@code [middle + 1, right]} through {@link #temp}.
+     *
+     * @param sortList the {@link LongSortList} to be sorted.
+     * @param left The leftmost index of the two sublists to be merged. (inclusive)
+     * @param middle The last index that belongs to the left sublist.
+     * @param right The rightmost index of the two sublists to be merged. (inclusive)
+     */
+    private void merge(LongSortList sortList, int left, int middle, int right) {
+        int p = left;
+        int q = middle + 1;
+
+        for (int i = left; i <= right; i++) {
+            if (q > right) {
+                temp[i] = sortList.getLong(p++);
+            } else if (p > middle) {
+                temp[i] = sortList.getLong(q++);
+            } else {
+                long a = sortList.getLong(p);
+                long b = sortList.getLong(q);
+                comparisons++;
+                if (a <= b) {
+                    temp[i] = a;
+                    p++;
+                } else {
+                    temp[i] = b;
+                    q++;
+                }
+            }
+        }
+
+        for (int i = left; i <= right; i++) {
+            sortList.setLong(i, temp[i]);
+        }
+    }
+
+    /**
+     * Sorts the elements between the given left and right indices (both inclusive) using the bubbleSort algorithm.
+     *
+     * @param sortList the {@link LongSortList} to be sorted.
+     * @param left The leftmost index of the list to be sorted.
+     * @param right The rightmost index of the list to be sorted.
+     */
+    private void bubbleSort(LongSortList sortList, int left, int right) {
+        for (int i = right; i >= left; i--) {
+            for (int j = left; j < i; j++) {
+                long a = sortList.getLong(j);
+                long b = sortList.getLong(j + 1);
+                comparisons++;
+                if (a > b) {
+                    sortList.setLong(j + 1, a);
+                    sortList.setLong(j, b);
+                }
+            }
+        }
+    }
+}
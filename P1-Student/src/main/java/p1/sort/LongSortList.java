@@ -0,0 +1,166 @@
+package p1.sort;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An implementation of {@link SortList} that stores {@code long} values in a primitive array.
+ * <p>
+ * In contrast to an {@link ArraySortList} of {@link Long Longs}, the values are not boxed. The primitive accessors
+ * {@link #getLong(int)} and {@link #setLong(int, long)} can be used by sorting algorithms to avoid any allocation while sorting.
+ * <p>
+ * Counting the read and write operations is optional. If counting is disabled, {@link #getReadCount()} and
+ * {@link #getWriteCount()} always return 0.
+ * <p>
+ * Since a primitive array cannot contain gaps, {@code null} values are not supported.
+ */
+public class LongSortList implements SortList<Long> {
+
+    /**
+     * The array that stores the elements.
+     */
+    long[] elements;
+
+    /**
+     * Whether read and write operations are counted.
+     */
+    private final boolean counting;
+
+    /**
+     * The number of read operations performed on this {@link LongSortList}.
+     */
+    private int readCount = 0;
+
+    /**
+     * The number of write operations performed on this {@link LongSortList}.
+     */
+    private int writeCount = 0;
+
+    /**
+     * Creates a new {@link LongSortList} with the specified elements that counts its read and write operations.
+     * @param elements the elements to store in this {@link LongSortList}.
+     */
+    public LongSortList(long[] elements) {
+        this(elements, true);
+    }
+
+    /**
+     * Creates a new {@link LongSortList} with the specified elements.
+     * @param elements the elements to store in this {@link LongSortList}.
+     * @param counting whether read and write operations should be counted.
+     */
+    public LongSortList(long[] elements, boolean counting) {
+        this.elements = Arrays.copyOf(elements, elements.length);
+        this.counting = counting;
+    }
+
+    /**
+     * Creates a new {@link LongSortList} with the specified size that counts its read and write operations.
+     * All elements are initialized with 0L.
+     * @param size the size of the {@link LongSortList}.
+     */
+    public LongSortList(int size) {
+        this(new long[size], true);
+    }
+
+    /**
+     * Returns the element at the specified index in this {@link LongSortList} without boxing it.
+     * <p>
+     * Calling this method causes one read operation to be performed.
+     *
+     * @param index the index of the element to return.
+     * @return the element at the specified index.
+     */
+    public long getLong(int index) {
+        if (counting) {
+            readCount++;
+        }
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at the specified index in this {@link LongSortList} without boxing it.
+     * <p>
+     * Calling this method causes one write operation to be performed.
+     *
+     * @param index the index of the element to replace.
+     * @param value the element to be stored at the specified index.
+     */
+    public void setLong(int index, long value) {
+        if (counting) {
+            writeCount++;
+        }
+        elements[index] = value;
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public void set(int index, Long value) {
+        if (value == null) {
+            throw new NullPointerException("LongSortList cannot store null elements");
+        }
+        setLong(index, value);
+    }
+
+    /**
+     * Not supported, since a primitive array cannot contain gaps.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public Long remove(int index) {
+        throw new UnsupportedOperationException("LongSortList cannot store null elements");
+    }
+
+    @Override
+    public int getSize() {
+        return elements.length;
+    }
+
+    @Override
+    public @NotNull Iterator<Long> iterator() {
+        return Arrays.stream(elements).iterator();
+    }
+
+    /**
+     * Returns whether read and write operations are counted by this {@link LongSortList}.
+     * @return {@code true} if operations are counted.
+     */
+    public boolean isCounting() {
+        return counting;
+    }
+
+    @Override
+    public int getReadCount() {
+        return readCount;
+    }
+
+    @Override
+    public int getWriteCount() {
+        return writeCount;
+    }
+
+    @Override
+    public Long[] toArray() {
+        return Arrays.stream(elements).boxed().toArray(Long[]::new);
+    }
+
+    /**
+     * Returns a primitive array containing all elements in this {@link LongSortList} in proper sequence.
+     * @return an array of all elements in this {@link LongSortList}.
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(elements, elements.length);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(elements);
+    }
+}
@@ -0,0 +1,341 @@
+package p1.sort;
+
+import java.util.Comparator;
+import java.util.function.IntFunction;
+
+/**
+ * A natural mergeSort in the style of TimSort, used by {@link HybridSort} in natural merge mode.
+ * <p>
+ * The list is split into runs that are already ascending or strictly descending. Descending runs are reversed. Runs
+ * that are shorter than the minimum run length are extended and sorted using the configured {@link BaseCase}. The runs
+ * are kept on a stack and merged so that their lengths stay balanced. Merging skips the prefix of the left run and
+ * the suffix of the right run that are already in place, and switches to galloping (exponential search) once one run
+ * wins {@link #MIN_GALLOP} times in a row.
+ * <p>
+ * All elements of the list are accessed through {@link SortList#get(int)} and {@link SortList#set(int, Object)} and
+ * compared using the given comparator, so the operations are counted the same way as in {@link HybridSort}. Only the
+ * left run of a merge is copied into a temporary array.
+ *
+ * @param <T> the type of the elements to be sorted.
+ */
+final class NaturalMergeSort<T> {
+
+    /**
+     * The number of consecutive wins of one run after which the merge switches to galloping.
+     */
+    private static final int MIN_GALLOP = 7;
+
+    /**
+     * The list to sort.
+     */
+    private final SortList<T> sortList;
+
+    /**
+     * The comparator used for comparing the elements.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * The algorithm used for extending short runs.
+     */
+    private final BaseCase baseCase;
+
+    /**
+     * The minimum length of a run. Shorter runs are extended to this length.
+     */
+    private final int minRun;
+
+    /**
+     * The start indices of the runs on the stack.
+     */
+    private final int[] runBase = new int[64];
+
+    /**
+     * The lengths of the runs on the stack.
+     */
+    private final int[] runLength = new int[64];
+
+    /**
+     * The number of runs on the stack.
+     */
+    private int stackSize = 0;
+
+    /**
+     * The temporary array used for merging. It grows on demand.
+     */
+    private T[] temp;
+
+    /**
+     * Creates a new {@link NaturalMergeSort} for the given list.
+     *
+     * @param sortList the list to sort.
+     * @param comparator the comparator used for comparing the elements.
+     * @param baseCase the algorithm used for extending short runs.
+     * @param minRun the minimum length of a run.
+     */
+    NaturalMergeSort(SortList<T> sortList, Comparator<? super T> comparator, BaseCase baseCase, int minRun) {
+        this.sortList = sortList;
+        this.comparator = comparator;
+        this.baseCase = baseCase;
+        this.minRun = minRun;
+    }
+
+    /**
+     * Sorts the list.
+     */
+    void sort() {
+        int size = sortList.getSize();
+        int low = 0;
+        while (low < size) {
+            int length = countRunAndMakeAscending(low, size);
+
+            // Extend short runs using the base case
+            if (length < minRun) {
+                int forced = Math.min(minRun, size - low);
+                baseCase.sort(sortList, low, low + forced - 1, comparator);
+                length = forced;
+            }
+
+            runBase[stackSize] = low;
+            runLength[stackSize] = length;
+            stackSize++;
+            mergeCollapse();
+
+            low += length;
+        }
+
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Returns the length of the run that starts at the given index. A strictly descending run is reversed.
+     *
+     * @param low the first index of the run.
+     * @param size the size of the list.
+     * @return the length of the run.
+     */
+    private int countRunAndMakeAscending(int low, int size) {
+        int high = low + 1;
+        if (high == size) {
+            return 1;
+        }
+
+        T previous = sortList.get(low);
+        T current = sortList.get(high++);
+        if (comparator.compare(current, previous) < 0) {
+            previous = current;
+            while (high < size && comparator.compare(current = sortList.get(high), previous) < 0) {
+                previous = current;
+                high++;
+            }
+            reverse(low, high - 1);
+        } else {
+            previous = current;
+            while (high < size && comparator.compare(current = sortList.get(high), previous) >= 0) {
+                previous = current;
+                high++;
+            }
+        }
+
+        return high - low;
+    }
+
+    /**
+     * Reverses the elements between the given indices (both inclusive).
+     */
+    private void reverse(int low, int high) {
+        while (low < high) {
+            T a = sortList.get(low);
+            T b = sortList.get(high);
+            sortList.set(low++, b);
+            sortList.set(high--, a);
+        }
+    }
+
+    /**
+     * Merges runs on the stack until the lengths of the topmost runs satisfy the TimSort invariants.
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if ((n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1])
+                || (n > 1 && runLength[n - 2] <= runLength[n - 1] + runLength[n])) {
+                if (runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+            } else if (runLength[n] > runLength[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges the runs at the given index and the next index of the stack.
+     *
+     * @param i the index of the left run on the stack.
+     */
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+
+        runLength[i] = length1 + length2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        stackSize--;
+
+        // Elements of the left run that are not greater than the first element of the right run are in place
+        int skipped = gallopRight(sortList.get(base2), sortList::get, base1, length1);
+        base1 += skipped;
+        length1 -= skipped;
+        if (length1 == 0) {
+            return;
+        }
+
+        // Elements of the right run that are not less than the last element of the left run are in place
+        length2 = gallopLeft(sortList.get(base1 + length1 - 1), sortList::get, base2, length2);
+        if (length2 == 0) {
+            return;
+        }
+
+        mergeLow(base1, length1, base2, length2);
+    }
+
+    /**
+     * Merges two adjacent runs by copying the left run into {@link #temp} and merging from left to right.
+     *
+     * @param base1 the first index of the left run.
+     * @param length1 the length of the left run.
+     * @param base2 the first index of the right run.
+     * @param length2 the length of the right run.
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeLow(int base1, int length1, int base2, int length2) {
+        if (temp == null || temp.length < length1) {
+            temp = (T[]) new Object[Math.max(length1, temp == null ? 0 : temp.length * 2)];
+        }
+        T[] left = temp;
+        for (int i = 0; i < length1; i++) {
+            left[i] = sortList.get(base1 + i);
+        }
+
+        int a = 0;
+        int b = base2;
+        int end = base2 + length2;
+        int destination = base1;
+        while (a < length1 && b < end) {
+            // Take one element at a time until one run wins often enough
+            int winsA = 0;
+            int winsB = 0;
+            while (a < length1 && b < end && winsA < MIN_GALLOP && winsB < MIN_GALLOP) {
+                T value = sortList.get(b);
+                if (comparator.compare(value, left[a]) < 0) {
+                    sortList.set(destination++, value);
+                    b++;
+                    winsB++;
+                    winsA = 0;
+                } else {
+                    sortList.set(destination++, left[a++]);
+                    winsA++;
+                    winsB = 0;
+                }
+            }
+
+            // Gallop until both runs win less than MIN_GALLOP elements at once
+            while (a < length1 && b < end) {
+                int countA = gallopRight(sortList.get(b), index -> left[index], a, length1 - a);
+                for (int i = 0; i < countA; i++) {
+                    sortList.set(destination++, left[a++]);
+                }
+                if (a == length1) {
+                    break;
+                }
+
+                int countB = gallopLeft(left[a], sortList::get, b, end - b);
+                for (int i = 0; i < countB; i++) {
+                    sortList.set(destination++, sortList.get(b++));
+                }
+
+                if (countA < MIN_GALLOP && countB < MIN_GALLOP) {
+                    break;
+                }
+            }
+        }
+
+        // The remaining elements of the right run are already in place
+        while (a < length1) {
+            sortList.set(destination++, left[a++]);
+        }
+        for (int i = 0; i < length1; i++) {
+            left[i] = null;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the given sorted range that are less than or equal to the given key.
+     *
+     * @param key the key to search for.
+     * @param elements the accessor of the elements.
+     * @param base the first index of the range.
+     * @param length the length of the range.
+     * @return the number of elements that are less than or equal to the key.
+     */
+    private int gallopRight(T key, IntFunction<T> elements, int base, int length) {
+        int low = 0;
+        int high = 1;
+        while (high <= length && comparator.compare(elements.apply(base + high - 1), key) <= 0) {
+            low = high;
+            high = 2 * high;
+        }
+        high = Math.min(high - 1, length);
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elements.apply(base + mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of elements in the given sorted range that are less than the given key.
+     *
+     * @param key the key to search for.
+     * @param elements the accessor of the elements.
+     * @param base the first index of the range.
+     * @param length the length of the range.
+     * @return the number of elements that are less than the key.
+     */
+    private int gallopLeft(T key, IntFunction<T> elements, int base, int length) {
+        int low = 0;
+        int high = 1;
+        while (high <= length && comparator.compare(elements.apply(base + high - 1), key) < 0) {
+            low = high;
+            high = 2 * high;
+        }
+        high = Math.min(high - 1, length);
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elements.apply(base + mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
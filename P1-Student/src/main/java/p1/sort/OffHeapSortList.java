@@ -0,0 +1,295 @@
+package p1.sort;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of {@link SortList} that stores fixed-width elements outside the Java heap.
+ * <p>
+ * The elements are stored in direct or memory-mapped {@link ByteBuffer ByteBuffers} according to a
+ * {@link FixedWidthLayout}. Since a single buffer is limited to 2 GB, the elements are split into segments of at most
+ * {@link #SEGMENT_ELEMENTS} elements, or fewer if a segment of that many elements would exceed the limit. A list
+ * created by {@link #map(Path, FixedWidthLayout)} is backed by the given file, so sorting it sorts the file in place
+ * and the elements themselves are never held in the heap as a whole. Changes can be flushed to the file using
+ * {@link #force()}.
+ * <p>
+ * Only the storage of the list is off-heap. The sorting algorithm may still allocate heap memory proportional to the
+ * size of the list, e.g. the temporary arrays of {@link HybridSort} or the buckets of
+ * {@link p1.sort.radix.RadixSort}.
+ * <p>
+ * Values are only boxed when they are accessed through {@link #get(int)}. Since the buffers cannot contain gaps,
+ * {@code null} values are not supported.
+ *
+ * @param <E> the type of elements in this {@link OffHeapSortList}.
+ */
+public class OffHeapSortList<E> implements SortList<E> {
+
+    /**
+     * The maximum number of elements stored in a single segment.
+     */
+    static final int SEGMENT_ELEMENTS = 1 << 24;
+
+    /**
+     * The layout of the elements.
+     */
+    private final FixedWidthLayout<E> layout;
+
+    /**
+     * The number of elements stored in a single segment. It is chosen by {@link #segmentElements(FixedWidthLayout)}.
+     */
+    private final int segmentElements;
+
+    /**
+     * The segments that store the elements. Every segment except the last one stores {@link #segmentElements}
+     * elements.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * The number of elements.
+     */
+    private final int size;
+
+    /**
+     * The number of read operations performed on this {@link OffHeapSortList}.
+     */
+    private int readCount = 0;
+
+    /**
+     * The number of write operations performed on this {@link OffHeapSortList}.
+     */
+    private int writeCount = 0;
+
+    /**
+     * Creates a new {@link OffHeapSortList} from the given segments.
+     *
+     * @param layout the layout of the elements.
+     * @param segments the segments that store the elements.
+     * @param size the number of elements.
+     */
+    private OffHeapSortList(FixedWidthLayout<E> layout, ByteBuffer[] segments, int size) {
+        this.layout = layout;
+        this.segmentElements = segmentElements(layout);
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /**
+     * Creates a new {@link OffHeapSortList} with the specified size that is stored in direct buffers.
+     * All bytes are initialized with 0.
+     *
+     * @param layout the layout of the elements.
+     * @param size the number of elements.
+     * @param <E> the type of the elements.
+     * @return a new {@link OffHeapSortList}.
+     * @throws IllegalArgumentException if the size is negative or the width of the layout is not positive.
+     */
+    public static <E> OffHeapSortList<E> allocate(FixedWidthLayout<E> layout, int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative");
+        }
+        int segmentElements = segmentElements(layout);
+        ByteBuffer[] segments = new ByteBuffer[segmentCount(size, segmentElements)];
+        for (int s = 0; s < segments.length; s++) {
+            // Both factors are bounded by segmentElements, so the product does not exceed Integer.MAX_VALUE
+            int elements = (int) Math.min(segmentElements, size - (long) s * segmentElements);
+            segments[s] = ByteBuffer.allocateDirect(elements * layout.width());
+        }
+        return new OffHeapSortList<>(layout, segments, size);
+    }
+
+    /**
+     * Creates a new {@link OffHeapSortList} that is backed by the given file in big-endian byte order.
+     *
+     * @param file the file to map. Its size must be a multiple of the width of the layout.
+     * @param layout the layout of the elements.
+     * @param <E> the type of the elements.
+     * @return a new {@link OffHeapSortList} backed by the file.
+     * @throws IOException if the file cannot be mapped.
+     * @see #map(Path, FixedWidthLayout, ByteOrder)
+     */
+    public static <E> OffHeapSortList<E> map(Path file, FixedWidthLayout<E> layout) throws IOException {
+        return map(file, layout, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Creates a new {@link OffHeapSortList} that is backed by the given file.
+     * <p>
+     * The file is mapped for reading and writing, so all changes to the list are written to the file. The mapping stays
+     * valid after this method returns, even though the file channel is closed.
+     *
+     * @param file the file to map. Its size must be a multiple of the width of the layout.
+     * @param layout the layout of the elements.
+     * @param order the byte order of the values in the file.
+     * @param <E> the type of the elements.
+     * @return a new {@link OffHeapSortList} backed by the file.
+     * @throws IOException if the file cannot be mapped.
+     * @throws IllegalArgumentException if the width of the layout is not positive, the size of the file is not a
+     * multiple of the width or the file contains too many elements.
+     */
+    public static <E> OffHeapSortList<E> map(Path file, FixedWidthLayout<E> layout, ByteOrder order) throws IOException {
+        int segmentElements = segmentElements(layout);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long bytes = channel.size();
+            if (bytes % layout.width() != 0) {
+                throw new IllegalArgumentException("file size must be a multiple of " + layout.width());
+            }
+            if (bytes / layout.width() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("file contains too many elements");
+            }
+
+            int size = (int) (bytes / layout.width());
+            ByteBuffer[] segments = new ByteBuffer[segmentCount(size, segmentElements)];
+            for (int s = 0; s < segments.length; s++) {
+                long position = (long) s * segmentElements * layout.width();
+                long length = Math.min(segmentElements, size - (long) s * segmentElements) * layout.width();
+                segments[s] = channel.map(FileChannel.MapMode.READ_WRITE, position, length).order(order);
+            }
+            return new OffHeapSortList<>(layout, segments, size);
+        }
+    }
+
+    /**
+     * Returns the number of elements stored in a single segment for the given layout. It is at most
+     * {@link #SEGMENT_ELEMENTS}, and small enough that the byte offset of every element of a segment fits into an
+     * {@code int}.
+     *
+     * @throws IllegalArgumentException if the width of the layout is not positive.
+     */
+    private static int segmentElements(FixedWidthLayout<?> layout) {
+        if (layout.width() < 1) {
+            throw new IllegalArgumentException("width must be positive");
+        }
+        return Math.min(SEGMENT_ELEMENTS, Integer.MAX_VALUE / layout.width());
+    }
+
+    /**
+     * Returns the number of segments needed for the given number of elements.
+     */
+    private static int segmentCount(int size, int segmentElements) {
+        return (int) (((long) size + segmentElements - 1) / segmentElements);
+    }
+
+    /**
+     * Returns the offset of the first byte of the element at the given index within its segment.
+     */
+    private int offset(int index) {
+        return (index % segmentElements) * layout.width();
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        readCount++;
+        return layout.read(segments[index / segmentElements], offset(index));
+    }
+
+    @Override
+    public void set(int index, E value) {
+        checkIndex(index);
+        if (value == null) {
+            throw new NullPointerException("OffHeapSortList cannot store null elements");
+        }
+        writeCount++;
+        layout.write(segments[index / segmentElements], offset(index), value);
+    }
+
+    /**
+     * Not supported, since the buffers cannot contain gaps.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException("OffHeapSortList cannot store null elements");
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public @NotNull Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int current = index++;
+                return layout.read(segments[current / segmentElements], offset(current));
+            }
+        };
+    }
+
+    @Override
+    public int getReadCount() {
+        return readCount;
+    }
+
+    @Override
+    public int getWriteCount() {
+        return writeCount;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray() {
+        E[] array = (E[]) new Object[size];
+        int i = 0;
+        for (E element : this) {
+            array[i++] = element;
+        }
+        return array;
+    }
+
+    /**
+     * Writes all changes of a list created by {@link #map(Path, FixedWidthLayout)} to the underlying file.
+     * It has no effect on lists created by {@link #allocate(FixedWidthLayout, int)}.
+     */
+    public void force() {
+        for (ByteBuffer segment : segments) {
+            if (segment instanceof MappedByteBuffer mapped) {
+                mapped.force();
+            }
+        }
+    }
+
+    /**
+     * Checks that the given index is within the bounds of this list.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (E element : this) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(element);
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,168 @@
+package p1.sort;
+
+import java.util.Comparator;
+
+/**
+ * A mergeSort that compares cached key prefixes first, used by {@link HybridSort} if a {@link KeyPrefix} is set.
+ * <p>
+ * The elements are read once into an array and the prefix of every element is stored in a parallel {@code long}
+ * array. Both arrays are sorted together: two elements are ordered by their prefixes and the comparator is only called
+ * if the prefixes are equal. Since most comparisons are decided by the primitive array, the elements themselves are
+ * rarely dereferenced. Ranges with less than k elements are sorted using insertion sort. Finally, the elements are
+ * written back once. The sort is stable.
+ * <p>
+ * Only the calls of the comparator are counted as comparisons.
+ *
+ * @param <T> the type of the elements to be sorted.
+ */
+final class PrefixMergeSort<T> {
+
+    /**
+     * The list to sort.
+     */
+    private final SortList<T> sortList;
+
+    /**
+     * The comparator used for comparing elements with equal prefixes.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * The function computing the prefixes.
+     */
+    private final KeyPrefix<? super T> keyPrefix;
+
+    /**
+     * The threshold for switching from mergeSort to insertion sort.
+     */
+    private final int k;
+
+    /**
+     * The elements to sort.
+     */
+    private T[] elements;
+
+    /**
+     * The prefixes of {@link #elements}.
+     */
+    private long[] prefixes;
+
+    /**
+     * The scratch array for merging the elements.
+     */
+    private T[] elementScratch;
+
+    /**
+     * The scratch array for merging the prefixes.
+     */
+    private long[] prefixScratch;
+
+    /**
+     * Creates a new {@link PrefixMergeSort} for the given list.
+     *
+     * @param sortList the list to sort.
+     * @param comparator the comparator used for comparing elements with equal prefixes.
+     * @param keyPrefix the function computing the prefixes.
+     * @param k the threshold for switching from mergeSort to insertion sort.
+     */
+    PrefixMergeSort(SortList<T> sortList, Comparator<? super T> comparator, KeyPrefix<? super T> keyPrefix, int k) {
+        this.sortList = sortList;
+        this.comparator = comparator;
+        this.keyPrefix = keyPrefix;
+        this.k = k;
+    }
+
+    /**
+     * Sorts the list.
+     */
+    @SuppressWarnings("unchecked")
+    void sort() {
+        int size = sortList.getSize();
+        elements = (T[]) new Object[size];
+        prefixes = new long[size];
+        for (int i = 0; i < size; i++) {
+            T value = sortList.get(i);
+            elements[i] = value;
+            prefixes[i] = keyPrefix.prefix(value);
+        }
+
+        elementScratch = (T[]) new Object[size];
+        prefixScratch = new long[size];
+        sort(0, size - 1);
+
+        for (int i = 0; i < size; i++) {
+            sortList.set(i, elements[i]);
+        }
+    }
+
+    /**
+     * Sorts the range between left and right (both inclusive).
+     */
+    private void sort(int left, int right) {
+        if (left >= right) {
+            return;
+        }
+        if (right - left + 1 < k) {
+            insertionSort(left, right);
+            return;
+        }
+
+        int mid = (left + right) / 2;
+        sort(left, mid);
+        sort(mid + 1, right);
+        merge(left, mid, right);
+    }
+
+    /**
+     * Merges the sorted ranges {@code [left, middle]} and {@code [middle + 1, right]} through the scratch arrays.
+     */
+    private void merge(int left, int middle, int right) {
+        // The ranges are already in order
+        if (compare(middle, middle + 1) <= 0) {
+            return;
+        }
+
+        int p = left;
+        int q = middle + 1;
+        for (int i = left; i <= right; i++) {
+            int source = q > right || (p <= middle && compare(p, q) <= 0) ? p++ : q++;
+            elementScratch[i] = elements[source];
+            prefixScratch[i] = prefixes[source];
+        }
+        System.arraycopy(elementScratch, left, elements, left, right - left + 1);
+        System.arraycopy(prefixScratch, left, prefixes, left, right - left + 1);
+    }
+
+    /**
+     * Sorts the range between left and right (both inclusive) using insertion sort.
+     */
+    private void insertionSort(int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            T value = elements[i];
+            long prefix = prefixes[i];
+            int j = i - 1;
+            while (j >= left && compare(elements[j], prefixes[j], value, prefix) > 0) {
+                elements[j + 1] = elements[j];
+                prefixes[j + 1] = prefixes[j];
+                j--;
+            }
+            elements[j + 1] = value;
+            prefixes[j + 1] = prefix;
+        }
+    }
+
+    /**
+     * Compares the elements at the given indices.
+     */
+    private int compare(int i, int j) {
+        return compare(elements[i], prefixes[i], elements[j], prefixes[j]);
+    }
+
+    /**
+     * Compares two elements by their prefixes and calls the comparator only if the prefixes are equal.
+     */
+    private int compare(T a, long prefixA, T b, long prefixB) {
+        int result = Long.compareUnsigned(prefixA, prefixB);
+        return result != 0 ? result : comparator.compare(a, b);
+    }
+}
@@ -0,0 +1,273 @@
+package p1.sort;
+
+import p1.comparator.CountingComparator;
+
+import java.util.Comparator;
+
+/**
+ * Operations that only partially sort a {@link SortList}, for callers that need the smallest k elements or a single
+ * order statistic instead of the whole sorted list.
+ * <p>
+ * {@link #nthElement(SortList, int)} uses introselect: quickselect with three-way partitioning around a median of three
+ * pivot, which falls back to heap selection if the partitions do not shrink fast enough. {@link #partialSort(SortList,
+ * int)} and {@link #topK(SortList, int)} use a bounded max-heap of k elements, so they need {@code O(n log k)}
+ * comparisons.
+ * <p>
+ * All elements are accessed through {@link SortList#get(int)} and {@link SortList#set(int, Object)} and compared using
+ * a {@link CountingComparator}, so the operations are counted the same way as in {@link HybridSort}. The comparisons of
+ * the last operation are returned by {@link #getComparisonsCount()}.
+ *
+ * @param <T> the type of the elements.
+ */
+public class Selection<T> {
+
+    /**
+     * Ranges with fewer elements than this are sorted using insertion sort by {@link #nthElement(SortList, int)}.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * The comparator used for comparing the elements.
+     */
+    private final CountingComparator<T> comparator;
+
+    /**
+     * Creates a new {@link Selection} instance.
+     *
+     * @param comparator the comparator used for comparing the elements.
+     */
+    public Selection(Comparator<T> comparator) {
+        this.comparator = new CountingComparator<>(comparator);
+    }
+
+    /**
+     * Rearranges the given {@link SortList}, so that the element at index n is the element that would be at that index
+     * if the list was sorted. All elements before index n are less than or equal to it, and all elements after index n
+     * are greater than or equal to it.
+     *
+     * @param sortList the {@link SortList} to rearrange.
+     * @param n the index of the element to select.
+     * @throws IndexOutOfBoundsException if n is not an index of the list.
+     */
+    public void nthElement(SortList<T> sortList, int n) {
+        comparator.reset();
+        int size = sortList.getSize();
+        if (n < 0 || n >= size) {
+            throw new IndexOutOfBoundsException(n);
+        }
+
+        int left = 0;
+        int right = size - 1;
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(size));
+        while (right > left) {
+            if (right - left + 1 < INSERTION_THRESHOLD) {
+                BaseCase.INSERTION.sort(sortList, left, right, comparator);
+                return;
+            }
+            if (depthLimit-- == 0) {
+                heapSelect(sortList, left, right, n);
+                return;
+            }
+
+            // Partition into the elements less than, equal to and greater than the pivot
+            T pivot = medianOfThree(sortList.get(left), sortList.get((left + right) >>> 1), sortList.get(right));
+            int lt = left;
+            int gt = right;
+            int i = left;
+            while (i <= gt) {
+                T value = sortList.get(i);
+                int result = comparator.compare(value, pivot);
+                if (result < 0) {
+                    swap(sortList, lt++, i++, value);
+                } else if (result > 0) {
+                    swap(sortList, gt--, i, value);
+                } else {
+                    i++;
+                }
+            }
+
+            if (n < lt) {
+                right = lt - 1;
+            } else if (n > gt) {
+                left = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rearranges the given {@link SortList}, so that the first k elements are the smallest k elements in sorted order.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param sortList the {@link SortList} to rearrange.
+     * @param k the number of smallest elements to sort.
+     * @throws IllegalArgumentException if k is negative or greater than the size of the list.
+     */
+    public void partialSort(SortList<T> sortList, int k) {
+        comparator.reset();
+        checkK(sortList, k);
+        if (k == 0) {
+            return;
+        }
+
+        buildHeap(sortList, 0, k);
+        for (int i = k; i < sortList.getSize(); i++) {
+            T value = sortList.get(i);
+            T max = sortList.get(0);
+            if (comparator.compare(value, max) < 0) {
+                sortList.set(i, max);
+                sortList.set(0, value);
+                siftDown(sortList, 0, k, 0);
+            }
+        }
+        sortHeap(sortList, 0, k);
+    }
+
+    /**
+     * Returns the smallest k elements of the given {@link SortList} in sorted order, without modifying the list.
+     * Every element of the list is read once, and the elements are collected in a heap of at most k elements.
+     *
+     * @param sortList the {@link SortList} to select from.
+     * @param k the number of smallest elements to return.
+     * @return a new {@link SortList} with the smallest k elements.
+     * @throws IllegalArgumentException if k is negative or greater than the size of the list.
+     */
+    public SortList<T> topK(SortList<T> sortList, int k) {
+        comparator.reset();
+        checkK(sortList, k);
+        if (k == 0) {
+            return new ArraySortList<>(0);
+        }
+
+        SortList<T> heap = new ArraySortList<>(k);
+        for (int i = 0; i < sortList.getSize(); i++) {
+            T value = sortList.get(i);
+            if (i < k) {
+                heap.set(i, value);
+                if (i == k - 1) {
+                    buildHeap(heap, 0, k);
+                }
+            } else if (comparator.compare(value, heap.get(0)) < 0) {
+                heap.set(0, value);
+                siftDown(heap, 0, k, 0);
+            }
+        }
+        sortHeap(heap, 0, k);
+        return heap;
+    }
+
+    /**
+     * Returns the number of comparisons made during the last operation.
+     * @return the number of comparisons made during the last operation.
+     */
+    public int getComparisonsCount() {
+        return comparator.getComparisonsCount();
+    }
+
+    /**
+     * Returns the number of comparisons made during the last operation as a {@code long}.
+     * @return the number of comparisons made during the last operation.
+     */
+    public long getTotalComparisonsCount() {
+        return comparator.getTotalComparisonsCount();
+    }
+
+    /**
+     * Checks that k is between 0 and the size of the given list (both inclusive).
+     */
+    private static void checkK(SortList<?> sortList, int k) {
+        if (k < 0 || k > sortList.getSize()) {
+            throw new IllegalArgumentException("k must be between 0 and the size of the list.");
+        }
+    }
+
+    /**
+     * Moves the element at index n of the range between left and right (both inclusive) into place using a max-heap
+     * of the elements between left and n.
+     */
+    private void heapSelect(SortList<T> sortList, int left, int right, int n) {
+        int heapSize = n - left + 1;
+        buildHeap(sortList, left, heapSize);
+        for (int i = n + 1; i <= right; i++) {
+            T value = sortList.get(i);
+            T max = sortList.get(left);
+            if (comparator.compare(value, max) < 0) {
+                sortList.set(i, max);
+                sortList.set(left, value);
+                siftDown(sortList, left, heapSize, 0);
+            }
+        }
+
+        // The maximum of the heap is the nth element
+        swap(sortList, n, left, sortList.get(left));
+    }
+
+    /**
+     * Turns the range of the given size starting at base into a max-heap.
+     */
+    private void buildHeap(SortList<T> sortList, int base, int size) {
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(sortList, base, size, i);
+        }
+    }
+
+    /**
+     * Sorts the max-heap of the given size starting at base in ascending order.
+     */
+    private void sortHeap(SortList<T> sortList, int base, int size) {
+        for (int end = size - 1; end > 0; end--) {
+            swap(sortList, base + end, base, sortList.get(base));
+            siftDown(sortList, base, end, 0);
+        }
+    }
+
+    /**
+     * Moves the element at index i of the heap of the given size starting at base down until the heap property holds.
+     */
+    private void siftDown(SortList<T> sortList, int base, int size, int i) {
+        T value = sortList.get(base + i);
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            T larger = sortList.get(base + child);
+            if (child + 1 < size) {
+                T right = sortList.get(base + child + 1);
+                if (comparator.compare(right, larger) > 0) {
+                    child++;
+                    larger = right;
+                }
+            }
+            if (comparator.compare(larger, value) <= 0) {
+                break;
+            }
+            sortList.set(base + i, larger);
+            i = child;
+        }
+        sortList.set(base + i, value);
+    }
+
+    /**
+     * Returns the median of the three given elements.
+     */
+    private T medianOfThree(T a, T b, T c) {
+        if (comparator.compare(a, b) > 0) {
+            T temp = a;
+            a = b;
+            b = temp;
+        }
+        if (comparator.compare(b, c) <= 0) {
+            return b;
+        }
+        return comparator.compare(a, c) > 0 ? a : c;
+    }
+
+    /**
+     * Swaps the element at index i with the given value, which is the element at index j.
+     */
+    private static <T> void swap(SortList<T> sortList, int i, int j, T value) {
+        if (i != j) {
+            sortList.set(j, sortList.get(i));
+            sortList.set(i, value);
+        }
+    }
+}
@@ -24,4 +24,17 @@ public interface Sort<T> {
      */
     int getComparisonsCount();
 
+    /**
+     * Returns the number of comparisons made by the sorting algorithm during the last execution of the
+     * {@link #sort(SortList)} method as a {@code long}.
+     * <p>
+     * Implementations that may exceed {@link Integer#MAX_VALUE} comparisons should override this method.
+     * By default, {@link #getComparisonsCount()} is returned.
+     *
+     * @return the number of comparisons made by the sorting algorithm.
+     */
+    default long getTotalComparisonsCount() {
+        return getComparisonsCount();
+    }
+
 }
@@ -0,0 +1,299 @@
+package p1.sort.external;
+
+import p1.comparator.CountingComparator;
+import p1.sort.ArraySortList;
+import p1.sort.Sort;
+import p1.sort.SortList;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts files that are larger than the available memory.
+ *
+ * <p>The input is read in chunks of at most {@link #chunkSize} values. Every chunk is wrapped in an uncounted
+ * {@link ArraySortList} without copying it, sorted using the given {@link Sort} and spilled to a temporary file as a
+ * sorted run. The runs are then merged, at most {@link #fanIn} at a time, until a single run remains, which is
+ * written to the output. All files are read and written through buffered NIO streams of {@link #bufferSize} bytes.
+ *
+ * <p>The given {@link Sort} must sort the values in the same order as the given {@link Comparator}, which is used for
+ * merging the runs. The temporary files are deleted once they have been merged, or if the sort fails.
+ *
+ * <p>The memory budget is given by the chunk size, which is a number of values and not a number of bytes. A single
+ * array of that many references holds the current chunk, so the memory needed in total also depends on the size of
+ * the values and on the buffers allocated by the chunk sort.
+ *
+ * @param <T> the type of the values to be sorted.
+ */
+public class ExternalSort<T> {
+
+    /**
+     * The algorithm used for sorting the chunks.
+     */
+    private final Sort<T> chunkSort;
+
+    /**
+     * The comparator used for merging the runs.
+     */
+    private final CountingComparator<T> comparator;
+
+    /**
+     * The codec used for reading and writing the values.
+     */
+    private final RecordCodec<T> codec;
+
+    /**
+     * The maximum number of values that are sorted in memory at once.
+     */
+    private int chunkSize = 1 << 20;
+
+    /**
+     * The maximum number of runs that are merged at once.
+     */
+    private int fanIn = 64;
+
+    /**
+     * The directory in which the temporary files are created, or {@code null} for the default temporary directory.
+     */
+    private Path tempDirectory;
+
+    /**
+     * The size of the buffer of every read and written file in bytes.
+     */
+    private int bufferSize = 1 << 16;
+
+    /**
+     * The number of comparisons made by the chunk sorts during the last call of {@link #sort(Path, Path)}.
+     */
+    private long chunkComparisons;
+
+    /**
+     * Creates a new {@link ExternalSort} instance.
+     *
+     * @param chunkSort The algorithm used for sorting the chunks, e.g. a {@link p1.sort.HybridSort}.
+     * @param comparator The comparator used for merging the runs. It must match the order of the chunk sort.
+     * @param codec The codec used for reading and writing the values.
+     */
+    public ExternalSort(Sort<T> chunkSort, Comparator<T> comparator, RecordCodec<T> codec) {
+        this.chunkSort = chunkSort;
+        this.comparator = new CountingComparator<>(comparator);
+        this.codec = codec;
+    }
+
+    /**
+     * Sorts the values of the input file and writes them to the output file.
+     *
+     * @param input The file to read the values from.
+     * @param output The file to write the sorted values to. It is created or overwritten.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void sort(Path input, Path output) throws IOException {
+        try (InputStream in = Files.newInputStream(input); OutputStream out = Files.newOutputStream(output)) {
+            sort(in, out);
+        }
+    }
+
+    /**
+     * Sorts the values of the input stream and writes them to the output stream. Neither stream is closed.
+     *
+     * @param input The stream to read the values from.
+     * @param output The stream to write the sorted values to.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void sort(InputStream input, OutputStream output) throws IOException {
+        comparator.reset();
+        chunkComparisons = 0;
+
+        List<Path> runs = new ArrayList<>();
+        try {
+            spillRuns(new RunReader<>(input, codec, bufferSize), runs);
+
+            // Merge the runs in rounds until at most fanIn runs remain
+            while (runs.size() > fanIn) {
+                List<Path> merged = new ArrayList<>();
+                try {
+                    for (int i = 0; i < runs.size(); i += fanIn) {
+                        List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                        Path run = createTempFile();
+                        merged.add(run);
+                        try (OutputStream out = Files.newOutputStream(run)) {
+                            merge(group, out);
+                        }
+                        deleteAll(group);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // The runs of this round are not referenced by runs yet, so they have to be deleted here
+                    try {
+                        deleteAll(merged);
+                    } catch (IOException suppressed) {
+                        e.addSuppressed(suppressed);
+                    }
+                    throw e;
+                }
+                runs = merged;
+            }
+
+            merge(runs, output);
+        } finally {
+            deleteAll(runs);
+        }
+    }
+
+    /**
+     * Returns the number of comparisons made by the chunk sorts and the merges during the last sort.
+     * <p>
+     * The chunks are sorted as uncounted lists, so the comparisons of a chunk sort are only included if it counts them
+     * for such lists. {@link p1.sort.HybridSort} does not.
+     *
+     * @return the number of comparisons.
+     */
+    public long getComparisonsCount() {
+        return chunkComparisons + comparator.getComparisonsCount();
+    }
+
+    /**
+     * Sets the maximum number of values that are sorted in memory at once. It is a number of values, not of bytes.
+     * @param chunkSize the new chunk size.
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be greater than 0.");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Sets the maximum number of runs that are merged at once.
+     * @param fanIn the new fan-in.
+     */
+    public void setFanIn(int fanIn) {
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("The fan-in must be at least 2.");
+        }
+        this.fanIn = fanIn;
+    }
+
+    /**
+     * Sets the directory in which the temporary files are created.
+     * @param tempDirectory the new directory, or {@code null} for the default temporary directory.
+     */
+    public void setTempDirectory(Path tempDirectory) {
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sets the size of the buffer of every read and written file in bytes.
+     * @param bufferSize the new buffer size.
+     */
+    public void setBufferSize(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The buffer size must be greater than 0.");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Reads the input in chunks, sorts every chunk and writes it to a new temporary file.
+     *
+     * @param reader The reader of the input.
+     * @param runs The list the temporary files are added to.
+     * @throws IOException if an I/O error occurs.
+     */
+    @SuppressWarnings("unchecked")
+    private void spillRuns(RunReader<T> reader, List<Path> runs) throws IOException {
+        T[] chunk = (T[]) new Object[chunkSize];
+        while (reader.hasNext()) {
+            int size = 0;
+            while (size < chunkSize && reader.hasNext()) {
+                chunk[size++] = reader.next();
+            }
+
+            // The last chunk may be shorter, so the buffer is shrunk once instead of copying every chunk
+            if (size < chunk.length) {
+                chunk = Arrays.copyOf(chunk, size);
+            }
+            SortList<T> sortList = ArraySortList.wrap(chunk, false);
+            chunkSort.sort(sortList);
+            chunkComparisons += chunkSort.getComparisonsCount();
+
+            Path run = createTempFile();
+            runs.add(run);
+            OutputStream file = Files.newOutputStream(run);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, bufferSize))) {
+                for (T value : sortList) {
+                    codec.write(value, out);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges the given sorted runs and writes the result to the given stream, which is not closed.
+     *
+     * @param runs The runs to merge.
+     * @param output The stream to write the merged values to.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void merge(List<Path> runs, OutputStream output) throws IOException {
+        List<RunReader<T>> readers = new ArrayList<>();
+        try {
+            PriorityQueue<RunReader<T>> queue = new PriorityQueue<>(Math.max(runs.size(), 1),
+                (a, b) -> comparator.compare(a.peek(), b.peek()));
+            for (Path run : runs) {
+                RunReader<T> reader = new RunReader<>(run, codec, bufferSize);
+                readers.add(reader);
+                if (reader.hasNext()) {
+                    queue.add(reader);
+                }
+            }
+
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output, bufferSize));
+            while (!queue.isEmpty()) {
+                RunReader<T> reader = queue.poll();
+                codec.write(reader.next(), out);
+                if (reader.hasNext()) {
+                    queue.add(reader);
+                }
+            }
+            out.flush();
+        } finally {
+            for (RunReader<T> reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Creates a new temporary file in {@link #tempDirectory}.
+     *
+     * @return the path of the new file.
+     * @throws IOException if an I/O error occurs.
+     */
+    private Path createTempFile() throws IOException {
+        return tempDirectory == null
+            ? Files.createTempFile("run", ".tmp")
+            : Files.createTempFile(tempDirectory, "run", ".tmp");
+    }
+
+    /**
+     * Deletes the given files, if they exist.
+     *
+     * @param files the files to delete.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void deleteAll(List<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
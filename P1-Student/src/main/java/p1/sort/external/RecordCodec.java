@@ -0,0 +1,107 @@
+package p1.sort.external;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes values to and reads values from a binary stream.
+ *
+ * <p>It is used by {@link ExternalSort} for reading the input, spilling sorted runs to temporary files and writing the
+ * output. Reading a value has to consume exactly the bytes that have been produced by writing it.
+ *
+ * @param <T> the type of the values.
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * A codec for {@link Integer} values, stored as 4 bytes.
+     */
+    RecordCodec<Integer> INTEGER = of(DataOutput::writeInt, DataInput::readInt);
+
+    /**
+     * A codec for {@link Long} values, stored as 8 bytes.
+     */
+    RecordCodec<Long> LONG = of(DataOutput::writeLong, DataInput::readLong);
+
+    /**
+     * A codec for {@link String} values, stored in modified UTF-8 with a length prefix.
+     */
+    RecordCodec<String> STRING = of(DataOutput::writeUTF, DataInput::readUTF);
+
+    /**
+     * Writes the given value to the given output.
+     *
+     * @param value The value to write.
+     * @param out The output to write to.
+     * @throws IOException if an I/O error occurs.
+     */
+    void write(T value, DataOutput out) throws IOException;
+
+    /**
+     * Reads a value from the given input.
+     *
+     * @param in The input to read from.
+     * @return The value that has been read.
+     * @throws IOException if an I/O error occurs.
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Creates a new {@link RecordCodec} from the given functions.
+     *
+     * @param writer The function that writes a value.
+     * @param reader The function that reads a value.
+     * @return A new {@link RecordCodec}.
+     * @param <T> the type of the values.
+     */
+    static <T> RecordCodec<T> of(Writer<T> writer, Reader<T> reader) {
+        return new RecordCodec<>() {
+            @Override
+            public void write(T value, DataOutput out) throws IOException {
+                writer.write(out, value);
+            }
+
+            @Override
+            public T read(DataInput in) throws IOException {
+                return reader.read(in);
+            }
+        };
+    }
+
+    /**
+     * Writes a value to a {@link DataOutput}.
+     *
+     * @param <T> the type of the values.
+     */
+    @FunctionalInterface
+    interface Writer<T> {
+
+        /**
+         * Writes the given value to the given output.
+         *
+         * @param out The output to write to.
+         * @param value The value to write.
+         * @throws IOException if an I/O error occurs.
+         */
+        void write(DataOutput out, T value) throws IOException;
+    }
+
+    /**
+     * Reads a value from a {@link DataInput}.
+     *
+     * @param <T> the type of the values.
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+
+        /**
+         * Reads a value from the given input.
+         *
+         * @param in The input to read from.
+         * @return The value that has been read.
+         * @throws IOException if an I/O error occurs.
+         */
+        T read(DataInput in) throws IOException;
+    }
+}
@@ -0,0 +1,113 @@
+package p1.sort.external;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads the values of a file one after another using a {@link RecordCodec}.
+ *
+ * <p>The file is read through a buffered NIO stream. The next value is always read ahead, so {@link #peek()} returns
+ * it without consuming it.
+ *
+ * @param <T> the type of the values.
+ */
+class RunReader<T> implements Closeable {
+
+    /**
+     * The buffered input of the file.
+     */
+    private final DataInputStream in;
+
+    /**
+     * The codec used for reading the values.
+     */
+    private final RecordCodec<T> codec;
+
+    /**
+     * The next value, or {@code null} if the end of the file has been reached.
+     */
+    private T next;
+
+    /**
+     * Whether the end of the file has been reached.
+     */
+    private boolean exhausted;
+
+    /**
+     * Opens the given file and reads its first value.
+     *
+     * @param file The file to read.
+     * @param codec The codec used for reading the values.
+     * @param bufferSize The size of the read buffer in bytes.
+     * @throws IOException if an I/O error occurs.
+     */
+    RunReader(Path file, RecordCodec<T> codec, int bufferSize) throws IOException {
+        this(Files.newInputStream(file), codec, bufferSize);
+    }
+
+    /**
+     * Reads the values of the given stream.
+     *
+     * @param in The stream to read.
+     * @param codec The codec used for reading the values.
+     * @param bufferSize The size of the read buffer in bytes.
+     * @throws IOException if an I/O error occurs.
+     */
+    RunReader(InputStream in, RecordCodec<T> codec, int bufferSize) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, bufferSize));
+        this.codec = codec;
+        advance();
+    }
+
+    /**
+     * Returns whether there is another value.
+     * @return {@code true} if {@link #peek()} and {@link #next()} return a value.
+     */
+    boolean hasNext() {
+        return !exhausted;
+    }
+
+    /**
+     * Returns the next value without consuming it.
+     * @return the next value.
+     */
+    T peek() {
+        return next;
+    }
+
+    /**
+     * Returns the next value and reads the value after it.
+     *
+     * @return the next value.
+     * @throws IOException if an I/O error occurs.
+     */
+    T next() throws IOException {
+        T value = next;
+        advance();
+        return value;
+    }
+
+    /**
+     * Reads the next value into {@link #next}, or marks the reader as exhausted at the end of the file.
+     */
+    private void advance() throws IOException {
+        in.mark(1);
+        if (in.read() == -1) {
+            exhausted = true;
+            next = null;
+            return;
+        }
+        in.reset();
+        next = codec.read(in);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,198 @@
+package p1.sort.radix;
+
+import p1.sort.Sort;
+import p1.sort.SortList;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * An in-place most significant digit radix sort for strings, also known as American flag sort.
+ *
+ * <p>Every UTF-16 code unit of a string is split into two bytes, starting with the high byte. A range of strings is
+ * distributed by the byte at the current depth: the bytes are counted, the counts are converted to the offsets of the
+ * buckets and the elements are permuted into their buckets by swapping them within the {@link SortList}, so no
+ * auxiliary buckets are needed. Strings that end before the current depth form the first bucket. Every other bucket is
+ * then sorted by the next byte. If all elements of a range fall into the same bucket, e.g. for the high bytes of Latin
+ * characters, the range is not permuted and sorted by the next byte directly. Ranges with less than {@link #cutoff}
+ * elements are sorted using insertion sort.
+ *
+ * <p>Since comparing the bytes of the code units is equivalent to comparing the code units, the resulting order is
+ * exactly the order of {@link String#compareTo(String)}, for any characters. Pending ranges are kept on an explicit
+ * stack and a single count array is reused, so the memory needed does not depend on the amount of elements.
+ *
+ * @see String#compareTo(String)
+ */
+public class AmericanFlagSort implements Sort<String> {
+
+    /**
+     * The amount of buckets: one for strings that have ended and one for every byte value.
+     */
+    private static final int RADIX = 256 + 1;
+
+    /**
+     * Ranges with fewer elements than this are sorted using insertion sort.
+     */
+    private int cutoff = 16;
+
+    /**
+     * The number of comparisons made by the insertion sort during the last call of {@link #sort(SortList)}.
+     */
+    private int comparisons;
+
+    @Override
+    public void sort(SortList<String> sortList) {
+        comparisons = 0;
+
+        int[] counts = new int[RADIX];
+        int[] next = new int[RADIX];
+        int[] ends = new int[RADIX];
+        Deque<int[]> ranges = new ArrayDeque<>();
+        ranges.push(new int[]{0, sortList.getSize(), 0});
+
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int from = range[0];
+            int to = range[1];
+            int depth = range[2];
+
+            if (to - from < cutoff) {
+                insertionSort(sortList, from, to, depth / 2);
+                continue;
+            }
+
+            // Count the bytes at the current depth
+            Arrays.fill(counts, 0);
+            for (int i = from; i < to; i++) {
+                counts[digit(sortList.get(i), depth)]++;
+            }
+
+            // Skip the permutation if all elements fall into the same bucket, e.g. for the high bytes of Latin text
+            int bucket = singleBucket(counts, to - from);
+            if (bucket >= 0) {
+                if (bucket > 0) {
+                    ranges.push(new int[]{from, to, depth + 1});
+                }
+                continue;
+            }
+
+            // Convert the counts to the offsets of the buckets
+            int offset = from;
+            for (int b = 0; b < RADIX; b++) {
+                next[b] = offset;
+                offset += counts[b];
+                ends[b] = offset;
+            }
+
+            // Permute the elements into their buckets by following cycles
+            for (int b = 0; b < RADIX; b++) {
+                while (next[b] < ends[b]) {
+                    String value = sortList.get(next[b]);
+                    int d = digit(value, depth);
+                    while (d != b) {
+                        String displaced = sortList.get(next[d]);
+                        sortList.set(next[d]++, value);
+                        value = displaced;
+                        d = digit(value, depth);
+                    }
+                    sortList.set(next[b]++, value);
+                }
+            }
+
+            // Sort every bucket except the one of ended strings by the next byte
+            for (int b = 1; b < RADIX; b++) {
+                if (counts[b] > 1) {
+                    ranges.push(new int[]{ends[b] - counts[b], ends[b], depth + 1});
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getComparisonsCount() {
+        return comparisons;
+    }
+
+    /**
+     * Sets the size below which a range is sorted using insertion sort.
+     * @param cutoff the new cutoff.
+     */
+    public void setCutoff(int cutoff) {
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Returns the bucket that holds all elements of a range, if there is one.
+     *
+     * @param counts the amount of elements of every bucket.
+     * @param size the amount of elements of the range.
+     * @return the bucket that holds all elements, or {@code -1} if the elements are spread over several buckets.
+     */
+    private static int singleBucket(int[] counts, int size) {
+        for (int b = 0; b < counts.length; b++) {
+            if (counts[b] != 0) {
+                return counts[b] == size ? b : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the bucket of the given string at the given depth. Depth {@code 2i} corresponds to the high byte and
+     * depth {@code 2i + 1} to the low byte of the code unit at index {@code i}. Bucket 0 is used if the string has
+     * ended, and the byte values are mapped to the buckets 1 to 256.
+     *
+     * @param value the string.
+     * @param depth the depth.
+     * @return the bucket of the string.
+     */
+    private static int digit(String value, int depth) {
+        int index = depth >> 1;
+        if (index >= value.length()) {
+            return 0;
+        }
+        char c = value.charAt(index);
+        return ((depth & 1) == 0 ? c >>> 8 : c & 0xFF) + 1;
+    }
+
+    /**
+     * Sorts the strings between from (inclusive) and to (exclusive) using insertion sort. All strings of the range
+     * share the first {@code offset} code units, so they are compared starting at that index.
+     *
+     * @param sortList the list to sort.
+     * @param from the first index of the range (inclusive).
+     * @param to the last index of the range (exclusive).
+     * @param offset the amount of code units shared by all strings of the range.
+     */
+    private void insertionSort(SortList<String> sortList, int from, int to, int offset) {
+        for (int i = from + 1; i < to; i++) {
+            String value = sortList.get(i);
+            int j = i - 1;
+            String current;
+            while (j >= from && compare(current = sortList.get(j), value, offset) > 0) {
+                sortList.set(j + 1, current);
+                j--;
+            }
+            if (j + 1 != i) {
+                sortList.set(j + 1, value);
+            }
+        }
+    }
+
+    /**
+     * Compares two strings like {@link String#compareTo(String)}, starting at the given index.
+     */
+    private int compare(String a, String b, int offset) {
+        comparisons++;
+        int length = Math.min(a.length(), b.length());
+        for (int i = offset; i < length; i++) {
+            char x = a.charAt(i);
+            char y = b.charAt(i);
+            if (x != y) {
+                return x - y;
+            }
+        }
+        return a.length() - b.length();
+    }
+}
@@ -0,0 +1,22 @@
+package p1.sort.radix;
+
+/**
+ * The strategy used by {@link RadixSort} to distribute the elements of a pass into buckets.
+ *
+ * @see RadixSort
+ */
+public enum BucketStrategy {
+
+    /**
+     * Every pass adds all elements to one {@link BucketLinkedList} per index and collects them afterward.
+     * It allocates one item per element and pass.
+     */
+    LINKED_LIST,
+
+    /**
+     * The histograms of all positions are computed in one pass upfront. Every pass then copies the elements into a
+     * single scratch array and writes them back to the offsets given by the prefix sums of the histogram.
+     * No objects are allocated during the passes.
+     */
+    COUNTING
+}
@@ -0,0 +1,26 @@
+package p1.sort.radix;
+
+import p1.card.Card;
+import p1.comparator.CardComparator;
+import p1.sort.CardSort;
+
+/**
+ * A {@link CompositeIndexExtractor} for {@linkplain Card Cards}.
+ *
+ * <p>The rank of the color forms position 0 and the value of the card position 1, so {@link RadixSort} sorts cards in
+ * the order defined by {@link CardComparator} in two passes with 12 buckets.
+ *
+ * @see CardComparator
+ */
+public class CardIndexExtractor extends CompositeIndexExtractor<Card> {
+
+    /**
+     * Creates a new {@link CardIndexExtractor} instance.
+     */
+    public CardIndexExtractor() {
+        super(
+            digit(card -> CardSort.colorRank(card.cardColor()), 4),
+            digit(card -> card.cardValue() - 2, 12)
+        );
+    }
+}
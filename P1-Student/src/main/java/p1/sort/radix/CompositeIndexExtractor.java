@@ -0,0 +1,163 @@
+package p1.sort.radix;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link RadixIndexExtractor} for records that are sorted by several keys.
+ *
+ * <p>The extractor chains several {@link Component Components}. Every component extracts a fixed amount of positions
+ * of one key of the record with its own radix. The first component forms the least significant positions, so
+ * {@link RadixSort} sorts by it first and the last component determines the final order, with ties being resolved by
+ * the previous components. The radix of the composite extractor is the largest radix of its components.
+ *
+ * <p>For example, {@link p1.card.Card cards} can be sorted by value and then by color in two linear passes:
+ * <pre>{@code
+ * new CompositeIndexExtractor<Card>(
+ *     CompositeIndexExtractor.digit(card -> CardSort.colorRank(card.cardColor()), 4),
+ *     CompositeIndexExtractor.digit(card -> card.cardValue() - 2, 12)
+ * );
+ * }</pre>
+ *
+ * @param <T> the type of the records.
+ *
+ * @see CardIndexExtractor
+ */
+public class CompositeIndexExtractor<T> implements RadixIndexExtractor<T> {
+
+    /**
+     * The components, starting with the least significant one.
+     */
+    private final List<Component<T>> components;
+
+    /**
+     * The radix of this extractor, which is the largest radix of the components.
+     */
+    private final int radix;
+
+    /**
+     * The total amount of positions of all components.
+     */
+    private final int positions;
+
+    /**
+     * Creates a new {@link CompositeIndexExtractor} instance.
+     *
+     * @param components the components, starting with the least significant one.
+     */
+    @SafeVarargs
+    public CompositeIndexExtractor(Component<T>... components) {
+        if (components.length == 0) {
+            throw new IllegalArgumentException("At least one component is required.");
+        }
+
+        // The components are copied one by one, so the varargs array does not escape this constructor
+        List<Component<T>> list = new ArrayList<>(components.length);
+        for (Component<T> component : components) {
+            list.add(component);
+        }
+        this.components = List.copyOf(list);
+        this.radix = this.components.stream()
+            .mapToInt(component -> component.extractor().getRadix())
+            .max()
+            .orElseThrow();
+        this.positions = this.components.stream().mapToInt(Component::positions).sum();
+    }
+
+    @Override
+    public int extractIndex(T value, int position) {
+        if (position < 0) {
+            throw new IndexOutOfBoundsException(position);
+        }
+
+        for (Component<T> component : components) {
+            if (position < component.positions()) {
+                return component.extractor().extractIndex(value, position);
+            }
+            position -= component.positions();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public int getRadix() {
+        return radix;
+    }
+
+    @Override
+    public int getMaxPositions() {
+        return positions;
+    }
+
+    /**
+     * Creates a {@link Component} that extracts the given amount of positions of a key of a record.
+     *
+     * @param key the function that returns the key of a record.
+     * @param extractor the extractor used for the key.
+     * @param positions the amount of positions of the key.
+     * @return a new {@link Component}.
+     * @param <T> the type of the records.
+     * @param <K> the type of the key.
+     */
+    public static <T, K> Component<T> component(Function<? super T, ? extends K> key, RadixIndexExtractor<K> extractor,
+                                                int positions) {
+        return new Component<>(new RadixIndexExtractor<>() {
+            @Override
+            public int extractIndex(T value, int position) {
+                return extractor.extractIndex(key.apply(value), position);
+            }
+
+            @Override
+            public int getRadix() {
+                return extractor.getRadix();
+            }
+        }, positions);
+    }
+
+    /**
+     * Creates a {@link Component} with a single position, whose index is returned by the given function.
+     *
+     * @param digit the function that returns the index of a record, between 0 (inclusive) and the radix (exclusive).
+     * @param radix the radix of the component.
+     * @return a new {@link Component}.
+     * @param <T> the type of the records.
+     */
+    public static <T> Component<T> digit(ToIntFunction<? super T> digit, int radix) {
+        return new Component<>(new RadixIndexExtractor<>() {
+            @Override
+            public int extractIndex(T value, int position) {
+                return digit.applyAsInt(value);
+            }
+
+            @Override
+            public int getRadix() {
+                return radix;
+            }
+        }, 1);
+    }
+
+    /**
+     * One key of a {@link CompositeIndexExtractor}.
+     *
+     * @param extractor the extractor of the key. The positions passed to it start at 0.
+     * @param positions the amount of positions of the key.
+     * @param <T> the type of the records.
+     */
+    public record Component<T>(RadixIndexExtractor<T> extractor, int positions) {
+
+        /**
+         * Creates a new {@link Component}.
+         *
+         * @param extractor the extractor of the key.
+         * @param positions the amount of positions of the key. Must be greater than 0.
+         */
+        public Component {
+            if (positions < 1) {
+                throw new IllegalArgumentException("The positions must be greater than 0.");
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package p1.sort.radix;
+
+/**
+ * A {@link RadixIndexExtractor} for {@link Double} values that extracts digits of a power-of-two radix using shifts and masks.
+ *
+ * <p>The bits of negative values are inverted and the sign bit of positive values is flipped, so the values are
+ * ordered like {@link Double#compare(double, double)}: negative values, {@code -0.0}, {@code 0.0}, positive values and
+ * finally {@code NaN}.
+ *
+ * @see FixedWidthIndexExtractor
+ */
+public class DoubleKeyIndexExtractor extends FixedWidthIndexExtractor<Double> {
+
+    /**
+     * Creates a new {@link DoubleKeyIndexExtractor} instance with 8 bits per digit.
+     */
+    public DoubleKeyIndexExtractor() {
+        this(8);
+    }
+
+    /**
+     * Creates a new {@link DoubleKeyIndexExtractor} instance.
+     * @param bitsPerDigit The amount of bits of a digit, typically 8, 11 or 16.
+     */
+    public DoubleKeyIndexExtractor(int bitsPerDigit) {
+        super(bitsPerDigit, Long.SIZE);
+    }
+
+    @Override
+    protected long toKey(Double value) {
+        long bits = Double.doubleToLongBits(value);
+        // Flip all bits of negative values and only the sign bit of positive values
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+}
@@ -0,0 +1,90 @@
+package p1.sort.radix;
+
+/**
+ * A {@link RadixIndexExtractor} for values that can be mapped to a key of a fixed number of bits.
+ *
+ * <p>The key of a value is split into digits of {@link #bitsPerDigit} bits, which are extracted using shifts and masks.
+ * Position 0 corresponds to the least significant digit. The key has to be chosen so that comparing two keys as
+ * unsigned numbers yields the natural order of the values, e.g. by flipping the sign bit of signed integers.
+ *
+ * <p>Since the width of the key is fixed, {@link #getMaxPositions()} returns the amount of digits of a key, so
+ * {@link RadixSort} does not need an externally set maximum input length.
+ *
+ * @param <T> the type of the values.
+ */
+public abstract class FixedWidthIndexExtractor<T> implements RadixIndexExtractor<T> {
+
+    /**
+     * The amount of bits of a digit.
+     */
+    private final int bitsPerDigit;
+
+    /**
+     * The mask that selects the lowest digit of a key.
+     */
+    private final long mask;
+
+    /**
+     * The amount of digits of a key.
+     */
+    private final int positions;
+
+    /**
+     * Creates a new {@link FixedWidthIndexExtractor} instance.
+     *
+     * @param bitsPerDigit The amount of bits of a digit. Must be between 1 and 16 (both inclusive).
+     * @param keyWidth The amount of bits of a key. Must be between 1 and 64 (both inclusive).
+     */
+    protected FixedWidthIndexExtractor(int bitsPerDigit, int keyWidth) {
+        if (bitsPerDigit < 1 || bitsPerDigit > 16) {
+            throw new IllegalArgumentException("The bits per digit must be between 1 and 16.");
+        }
+
+        if (keyWidth < 1 || keyWidth > Long.SIZE) {
+            throw new IllegalArgumentException("The key width must be between 1 and 64.");
+        }
+
+        this.bitsPerDigit = bitsPerDigit;
+        this.mask = (1L << bitsPerDigit) - 1;
+        this.positions = (keyWidth + bitsPerDigit - 1) / bitsPerDigit;
+    }
+
+    /**
+     * Maps the given value to its key. Comparing two keys as unsigned numbers has to yield the order of the values.
+     *
+     * @param value The value to map.
+     * @return The key of the value.
+     */
+    protected abstract long toKey(T value);
+
+    @Override
+    public int extractIndex(T value, int position) {
+        if (position < 0) {
+            throw new IndexOutOfBoundsException(position);
+        }
+
+        if (position >= positions) {
+            return 0;
+        }
+
+        return (int) ((toKey(value) >>> (position * bitsPerDigit)) & mask);
+    }
+
+    @Override
+    public int getRadix() {
+        return 1 << bitsPerDigit;
+    }
+
+    @Override
+    public int getMaxPositions() {
+        return positions;
+    }
+
+    /**
+     * Returns the amount of bits of a digit.
+     * @return The amount of bits of a digit.
+     */
+    public int getBitsPerDigit() {
+        return bitsPerDigit;
+    }
+}
@@ -0,0 +1,35 @@
+package p1.sort.radix;
+
+/**
+ * A {@link RadixIndexExtractor} for {@link Float} values that extracts digits of a power-of-two radix using shifts and masks.
+ *
+ * <p>The bits of negative values are inverted and the sign bit of positive values is flipped, so the values are
+ * ordered like {@link Float#compare(float, float)}: negative values, {@code -0.0f}, {@code 0.0f}, positive values and
+ * finally {@code NaN}.
+ *
+ * @see FixedWidthIndexExtractor
+ */
+public class FloatKeyIndexExtractor extends FixedWidthIndexExtractor<Float> {
+
+    /**
+     * Creates a new {@link FloatKeyIndexExtractor} instance with 8 bits per digit.
+     */
+    public FloatKeyIndexExtractor() {
+        this(8);
+    }
+
+    /**
+     * Creates a new {@link FloatKeyIndexExtractor} instance.
+     * @param bitsPerDigit The amount of bits of a digit, typically 8, 11 or 16.
+     */
+    public FloatKeyIndexExtractor(int bitsPerDigit) {
+        super(bitsPerDigit, Integer.SIZE);
+    }
+
+    @Override
+    protected long toKey(Float value) {
+        int bits = Float.floatToIntBits(value);
+        // Flip all bits of negative values and only the sign bit of positive values
+        return Integer.toUnsignedLong(bits ^ ((bits >> 31) | Integer.MIN_VALUE));
+    }
+}
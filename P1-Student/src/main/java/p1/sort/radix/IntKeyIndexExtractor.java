@@ -0,0 +1,31 @@
+package p1.sort.radix;
+
+/**
+ * A {@link RadixIndexExtractor} for {@link Integer} values that extracts digits of a power-of-two radix using shifts and masks.
+ *
+ * <p>The sign bit is flipped, so negative values are ordered before positive values.
+ *
+ * @see FixedWidthIndexExtractor
+ */
+public class IntKeyIndexExtractor extends FixedWidthIndexExtractor<Integer> {
+
+    /**
+     * Creates a new {@link IntKeyIndexExtractor} instance with 8 bits per digit.
+     */
+    public IntKeyIndexExtractor() {
+        this(8);
+    }
+
+    /**
+     * Creates a new {@link IntKeyIndexExtractor} instance.
+     * @param bitsPerDigit The amount of bits of a digit, typically 8, 11 or 16.
+     */
+    public IntKeyIndexExtractor(int bitsPerDigit) {
+        super(bitsPerDigit, Integer.SIZE);
+    }
+
+    @Override
+    protected long toKey(Integer value) {
+        return Integer.toUnsignedLong(value ^ Integer.MIN_VALUE);
+    }
+}
@@ -0,0 +1,109 @@
+package p1.sort.radix;
+
+import p1.sort.IntSortList;
+import p1.sort.Sort;
+import p1.sort.SortList;
+
+import java.util.Arrays;
+
+/**
+ * A variant of {@link RadixSort} that sorts {@code int} values in ascending order without boxing them.
+ *
+ * <p>Each pass considers {@link #bitsPerDigit} bits of the values, starting at the least significant bits. Instead of
+ * {@link Bucket Buckets}, the elements of a pass are distributed using a histogram of the digits and a single scratch
+ * array, so no objects are allocated per element. The sign bit is flipped before extracting the digits, which orders
+ * negative values before positive ones.
+ *
+ * <p>The amount of passes is derived from the width of an {@code int} and does not have to be set externally.
+ *
+ * <p>Lists that are not an {@link IntSortList} are copied into an uncounted {@link IntSortList}, sorted and copied back.
+ *
+ * @see RadixSort
+ * @see IntSortList
+ */
+public class IntRadixSort implements Sort<Integer> {
+
+    /**
+     * The amount of bits considered in each pass.
+     */
+    private final int bitsPerDigit;
+
+    /**
+     * Creates a new {@link IntRadixSort} instance that considers 8 bits in each pass.
+     */
+    public IntRadixSort() {
+        this(8);
+    }
+
+    /**
+     * Creates a new {@link IntRadixSort} instance.
+     *
+     * @param bitsPerDigit The amount of bits considered in each pass. Must be between 1 and 16 (both inclusive).
+     */
+    public IntRadixSort(int bitsPerDigit) {
+        if (bitsPerDigit < 1 || bitsPerDigit > 16) {
+            throw new IllegalArgumentException("The bits per digit must be between 1 and 16.");
+        }
+
+        this.bitsPerDigit = bitsPerDigit;
+    }
+
+    @Override
+    public void sort(SortList<Integer> sortList) {
+        if (sortList instanceof IntSortList intSortList) {
+            sort(intSortList);
+            return;
+        }
+
+        int[] values = new int[sortList.getSize()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sortList.get(i);
+        }
+        IntSortList copy = new IntSortList(values, false);
+        sort(copy);
+        for (int i = 0; i < sortList.getSize(); i++) {
+            sortList.set(i, copy.getInt(i));
+        }
+    }
+
+    /**
+     * Sorts the given {@link IntSortList} in ascending order.
+     * @param sortList the {@link IntSortList} to sort.
+     */
+    public void sort(IntSortList sortList) {
+        int size = sortList.getSize();
+        int radix = 1 << bitsPerDigit;
+        int mask = radix - 1;
+        int[] scratch = new int[size];
+        int[] counts = new int[radix];
+
+        for (int shift = 0; shift < Integer.SIZE; shift += bitsPerDigit) {
+            // Build the histogram of the current digit
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                int key = sortList.getInt(i) ^ Integer.MIN_VALUE;
+                scratch[i] = key;
+                counts[(key >>> shift) & mask]++;
+            }
+
+            // Convert the counts to the start offsets of the buckets
+            int offset = 0;
+            for (int b = 0; b < radix; b++) {
+                int count = counts[b];
+                counts[b] = offset;
+                offset += count;
+            }
+
+            // Distribute the elements into their buckets (stable)
+            for (int i = 0; i < size; i++) {
+                int key = scratch[i];
+                sortList.setInt(counts[(key >>> shift) & mask]++, key ^ Integer.MIN_VALUE);
+            }
+        }
+    }
+
+    @Override
+    public int getComparisonsCount() {
+        return 0; //Radix sort is not based on comparisons.
+    }
+}
@@ -34,6 +34,19 @@ public class IntegerIndexExtractor implements RadixIndexExtractor<Integer> {
         return (value / (int) Math.pow(radix, position)) % radix;
     }
 
+    @Override
+    public int getLength(Integer value) {
+        if (radix == 1) {
+            return 0; // every index is 0
+        }
+
+        int length = 0;
+        for (int remaining = value; remaining != 0; remaining /= radix) {
+            length++;
+        }
+        return length;
+    }
+
     @Override
     public int getRadix() {
         return radix;
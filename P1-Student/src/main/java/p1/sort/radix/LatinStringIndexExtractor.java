@@ -27,6 +27,11 @@ public class LatinStringIndexExtractor implements RadixIndexExtractor<String> {
         else return 0; // Return 0 for characters outside the range 'a' to 'z'
     }
 
+    @Override
+    public int getLength(String value) {
+        return value.length();
+    }
+
     @Override
     public int getRadix() {
         return 'z' - 'a' + 1; //26
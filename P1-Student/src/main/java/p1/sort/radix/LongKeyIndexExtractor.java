@@ -0,0 +1,31 @@
+package p1.sort.radix;
+
+/**
+ * A {@link RadixIndexExtractor} for {@link Long} values that extracts digits of a power-of-two radix using shifts and masks.
+ *
+ * <p>The sign bit is flipped, so negative values are ordered before positive values.
+ *
+ * @see FixedWidthIndexExtractor
+ */
+public class LongKeyIndexExtractor extends FixedWidthIndexExtractor<Long> {
+
+    /**
+     * Creates a new {@link LongKeyIndexExtractor} instance with 8 bits per digit.
+     */
+    public LongKeyIndexExtractor() {
+        this(8);
+    }
+
+    /**
+     * Creates a new {@link LongKeyIndexExtractor} instance.
+     * @param bitsPerDigit The amount of bits of a digit, typically 8, 11 or 16.
+     */
+    public LongKeyIndexExtractor(int bitsPerDigit) {
+        super(bitsPerDigit, Long.SIZE);
+    }
+
+    @Override
+    protected long toKey(Long value) {
+        return value ^ Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,262 @@
+package p1.sort.radix;
+
+import p1.sort.Sort;
+import p1.sort.SortList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A parallel implementation of the most significant digit (MSD) radix sort algorithm.
+ *
+ * <p>In contrast to {@link RadixSort}, the elements are first distributed by the element at the highest position,
+ * which is {@code maxInputLength - 1}. Every bucket is then sorted recursively by the next lower position. Buckets
+ * with less than two elements are not considered any further, so the recursion stops as soon as the elements are
+ * separated. Ranges with less than {@link #cutoff} elements are sorted using insertion sort instead, which compares the
+ * remaining positions of two values. Buckets with at least {@link #parallelThreshold} elements are sorted in parallel
+ * on the given {@link ForkJoinPool}.
+ *
+ * <p>For the same {@link RadixIndexExtractor} and {@link #maxInputLength}, the resulting order is the same as the
+ * order produced by {@link RadixSort}. The elements of the {@link SortList} are read once, sorted in an array and
+ * written back once.
+ *
+ * @param <T> the type of the elements to be sorted.
+ *
+ * @see RadixSort
+ * @see RadixIndexExtractor
+ */
+public class MSDRadixSort<T> implements Sort<T> {
+
+    /**
+     * The extractor used for mapping the element of a value at a given position to a bucket index.
+     */
+    private final RadixIndexExtractor<T> indexExtractor;
+
+    /**
+     * The pool that executes the recursive sorting tasks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The maximum amount of elements that any value in the sorted {@link SortList} contains.
+     *
+     * @see RadixSort#setMaxInputLength(int)
+     */
+    private int maxInputLength;
+
+    /**
+     * Ranges with fewer elements than this are sorted using insertion sort.
+     */
+    private int cutoff = 16;
+
+    /**
+     * Buckets with at least this many elements are sorted in a separate task.
+     */
+    private int parallelThreshold = 8192;
+
+    /**
+     * The number of comparisons made by the insertion sort during the last call of {@link #sort(SortList)}.
+     */
+    private final LongAdder comparisons = new LongAdder();
+
+    /**
+     * Creates a new {@link MSDRadixSort} instance that uses the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param indexExtractor The extractor used for extracting the bucket index of the elements.
+     */
+    public MSDRadixSort(RadixIndexExtractor<T> indexExtractor) {
+        this(indexExtractor, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@link MSDRadixSort} instance.
+     *
+     * @param indexExtractor The extractor used for extracting the bucket index of the elements.
+     * @param pool The pool that executes the recursive sorting tasks.
+     */
+    public MSDRadixSort(RadixIndexExtractor<T> indexExtractor, ForkJoinPool pool) {
+        if (indexExtractor.getRadix() < 1) {
+            throw new IllegalArgumentException("The radix must be greater than 0.");
+        }
+
+        this.indexExtractor = indexExtractor;
+        this.pool = pool;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(SortList<T> sortList) {
+        comparisons.reset();
+
+        int size = sortList.getSize();
+        T[] elements = (T[]) new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = sortList.get(i);
+        }
+
+        if (size > 1 && maxInputLength > 0) {
+            pool.invoke(new BucketTask(elements, (T[]) new Object[size], 0, size, maxInputLength - 1));
+        }
+
+        for (int i = 0; i < size; i++) {
+            sortList.set(i, elements[i]);
+        }
+    }
+
+    @Override
+    public int getComparisonsCount() {
+        return comparisons.intValue();
+    }
+
+    /**
+     * Sets the maximum amount of elements that any value in the {@link SortList}, that will be sorted, contains.
+     * @param maxInputLength the new maximum input length.
+     *
+     * @see RadixSort#setMaxInputLength(int)
+     */
+    public void setMaxInputLength(int maxInputLength) {
+        this.maxInputLength = maxInputLength;
+    }
+
+    /**
+     * Sets the size below which a range is sorted using insertion sort.
+     * @param cutoff the new cutoff.
+     */
+    public void setCutoff(int cutoff) {
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Sets the minimum size of a bucket that is sorted in a separate task.
+     * @param parallelThreshold the new threshold.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of {@link #elements} by the positions {@link #position} down to 0.
+     */
+    @SuppressWarnings("serial")
+    private class BucketTask extends RecursiveAction {
+
+        /**
+         * The elements to sort.
+         */
+        private final T[] elements;
+
+        /**
+         * The scratch array used for distributing the elements. It has the same size as {@link #elements}.
+         */
+        private final T[] scratch;
+
+        /**
+         * The first index of the range to sort (inclusive).
+         */
+        private final int from;
+
+        /**
+         * The last index of the range to sort (exclusive).
+         */
+        private final int to;
+
+        /**
+         * The position of the elements used for distributing the range into buckets.
+         */
+        private final int position;
+
+        BucketTask(T[] elements, T[] scratch, int from, int to, int position) {
+            this.elements = elements;
+            this.scratch = scratch;
+            this.from = from;
+            this.to = to;
+            this.position = position;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < cutoff) {
+                insertionSort();
+                return;
+            }
+
+            // Compute the histogram of the current position
+            int[] offsets = new int[indexExtractor.getRadix() + 1];
+            for (int i = from; i < to; i++) {
+                offsets[indexExtractor.extractIndex(elements[i], position) + 1]++;
+            }
+            for (int b = 0; b < offsets.length - 1; b++) {
+                offsets[b + 1] += offsets[b];
+            }
+
+            // Distribute the range into the scratch array and copy it back
+            int[] next = offsets.clone();
+            for (int i = from; i < to; i++) {
+                T value = elements[i];
+                scratch[from + next[indexExtractor.extractIndex(value, position)]++] = value;
+            }
+            System.arraycopy(scratch, from, elements, from, to - from);
+
+            if (position == 0) {
+                return;
+            }
+
+            // Sort every bucket by the next lower position
+            List<BucketTask> forked = new ArrayList<>();
+            for (int b = 0; b < offsets.length - 1; b++) {
+                int bucketSize = offsets[b + 1] - offsets[b];
+                if (bucketSize < 2) {
+                    continue;
+                }
+
+                BucketTask task = new BucketTask(elements, scratch, from + offsets[b], from + offsets[b + 1], position - 1);
+                if (bucketSize >= parallelThreshold) {
+                    forked.add(task);
+                    task.fork();
+                } else {
+                    task.compute();
+                }
+            }
+            for (BucketTask task : forked) {
+                task.join();
+            }
+        }
+
+        /**
+         * Sorts the range using insertion sort, comparing the positions {@link #position} down to 0.
+         */
+        private void insertionSort() {
+            long count = 0;
+            for (int i = from + 1; i < to; i++) {
+                T value = elements[i];
+                int j = i - 1;
+                while (j >= from) {
+                    count++;
+                    if (compare(elements[j], value) <= 0) {
+                        break;
+                    }
+                    elements[j + 1] = elements[j];
+                    j--;
+                }
+                elements[j + 1] = value;
+            }
+            comparisons.add(count);
+        }
+
+        /**
+         * Compares two values by their indices at the positions {@link #position} down to 0.
+         */
+        private int compare(T a, T b) {
+            for (int p = position; p >= 0; p--) {
+                int result = Integer.compare(indexExtractor.extractIndex(a, p), indexExtractor.extractIndex(b, p));
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package p1.sort.radix;
+
+import p1.sort.Sort;
+import p1.sort.SortList;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A three-way radix quicksort for strings, also known as multikey quicksort (Bentley and Sedgewick).
+ *
+ * <p>A range of strings that share their first {@code d} code units is partitioned by the code unit at index
+ * {@code d} of a pivot into the strings with a smaller, an equal and a greater code unit. The smaller and greater
+ * partitions are sorted by the same index again, while the equal partition is sorted by the next index, unless the pivot
+ * has ended. Thus, shared prefixes are inspected only once per partition instead of once per comparison. Partitions with
+ * less than {@link #cutoff} elements are sorted using insertion sort.
+ *
+ * <p>Every three-way comparison of a code unit with the pivot and every comparison of the insertion sort is counted in
+ * {@link #getComparisonsCount()}. The code units read for this are counted in {@link #getCharacterInspectionsCount()}.
+ * The elements are accessed through {@link SortList#get(int)} and {@link SortList#set(int, Object)}, so the read and
+ * write operations are counted by the {@link SortList}. The resulting order is the order of
+ * {@link String#compareTo(String)}.
+ */
+public class MultiKeyQuickSort implements Sort<String> {
+
+    /**
+     * Partitions with fewer elements than this are sorted using insertion sort.
+     */
+    private int cutoff = 16;
+
+    /**
+     * The number of comparisons made during the last call of {@link #sort(SortList)}.
+     */
+    private int comparisons;
+
+    /**
+     * The number of code units inspected during the last call of {@link #sort(SortList)}.
+     */
+    private long inspections;
+
+    @Override
+    public void sort(SortList<String> sortList) {
+        comparisons = 0;
+        inspections = 0;
+
+        Deque<int[]> ranges = new ArrayDeque<>();
+        ranges.push(new int[]{0, sortList.getSize() - 1, 0});
+
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int left = range[0];
+            int right = range[1];
+            int depth = range[2];
+
+            if (right - left + 1 < cutoff) {
+                insertionSort(sortList, left, right, depth);
+                continue;
+            }
+
+            // Partition around the median code unit of the first, middle and last element
+            int pivot = medianOfThree(
+                charAt(sortList.get(left), depth),
+                charAt(sortList.get((left + right) >>> 1), depth),
+                charAt(sortList.get(right), depth)
+            );
+            int lt = left;
+            int gt = right;
+            int i = left;
+            while (i <= gt) {
+                String value = sortList.get(i);
+                int c = charAt(value, depth);
+                comparisons++;
+                if (c < pivot) {
+                    swap(sortList, lt++, i++, value);
+                } else if (c > pivot) {
+                    swap(sortList, gt--, i, value);
+                } else {
+                    i++;
+                }
+            }
+
+            if (gt + 1 < right) {
+                ranges.push(new int[]{gt + 1, right, depth});
+            }
+            if (pivot >= 0 && lt < gt) {
+                ranges.push(new int[]{lt, gt, depth + 1});
+            }
+            if (left < lt - 1) {
+                ranges.push(new int[]{left, lt - 1, depth});
+            }
+        }
+    }
+
+    @Override
+    public int getComparisonsCount() {
+        return comparisons;
+    }
+
+    /**
+     * Returns the number of code units inspected during the last call of {@link #sort(SortList)}.
+     * @return the number of inspected code units.
+     */
+    public long getCharacterInspectionsCount() {
+        return inspections;
+    }
+
+    /**
+     * Sets the size below which a partition is sorted using insertion sort.
+     * @param cutoff the new cutoff.
+     */
+    public void setCutoff(int cutoff) {
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Returns the code unit of the given string at the given index, or -1 if the string has ended.
+     *
+     * @param value the string.
+     * @param index the index of the code unit.
+     * @return the code unit, or -1 if the string is shorter.
+     */
+    private int charAt(String value, int index) {
+        inspections++;
+        return index < value.length() ? value.charAt(index) : -1;
+    }
+
+    /**
+     * Returns the median of the three given code units. Every comparison made is counted, which are two or three.
+     */
+    private int medianOfThree(int a, int b, int c) {
+        comparisons++;
+        int low = Math.min(a, b);
+        int high = Math.max(a, b);
+        comparisons++;
+        if (c >= high) {
+            return high;
+        }
+        comparisons++;
+        return Math.max(low, c);
+    }
+
+    /**
+     * Swaps the element at index i with the given value, which is the element at index j.
+     */
+    private static void swap(SortList<String> sortList, int i, int j, String value) {
+        if (i != j) {
+            sortList.set(j, sortList.get(i));
+            sortList.set(i, value);
+        }
+    }
+
+    /**
+     * Sorts the strings between left and right (both inclusive) using insertion sort. All strings of the range share
+     * the first {@code offset} code units, so they are compared starting at that index.
+     *
+     * @param sortList the list to sort.
+     * @param left the first index of the range (inclusive).
+     * @param right the last index of the range (inclusive).
+     * @param offset the amount of code units shared by all strings of the range.
+     */
+    private void insertionSort(SortList<String> sortList, int left, int right, int offset) {
+        for (int i = left + 1; i <= right; i++) {
+            String value = sortList.get(i);
+            int j = i - 1;
+            String current;
+            while (j >= left && compare(current = sortList.get(j), value, offset) > 0) {
+                sortList.set(j + 1, current);
+                j--;
+            }
+            if (j + 1 != i) {
+                sortList.set(j + 1, value);
+            }
+        }
+    }
+
+    /**
+     * Compares two strings like {@link String#compareTo(String)}, starting at the given index.
+     */
+    private int compare(String a, String b, int offset) {
+        comparisons++;
+        int length = Math.min(a.length(), b.length());
+        for (int i = offset; i < length; i++) {
+            char x = a.charAt(i);
+            char y = b.charAt(i);
+            inspections += 2;
+            if (x != y) {
+                return x - y;
+            }
+        }
+        return a.length() - b.length();
+    }
+}
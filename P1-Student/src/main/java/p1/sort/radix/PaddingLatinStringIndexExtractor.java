@@ -27,6 +27,11 @@ public class PaddingLatinStringIndexExtractor extends LatinStringIndexExtractor
         return crash(); //TODO: H3  c) - remove if implemented
     }
 
+    @Override
+    public int getLength(String value) {
+        return maxInputLength;
+    }
+
     public void setMaxInputLength(int maxInputLength) {
         this.maxInputLength = maxInputLength;
     }
@@ -50,6 +50,30 @@ public interface  RadixIndexExtractor<T> {
      */
     int getRadix();
 
+    /**
+     * Returns the amount of positions that are needed to represent any value, if it is known in advance.
+     *
+     * <p>For fixed-width keys, e.g. {@code int} values split into 8-bit digits, this is the amount of digits of a key.
+     * If the amount depends on the values, e.g. for strings, {@code -1} is returned.
+     *
+     * @return The amount of positions of any value, or {@code -1} if it is not known in advance.
+     */
+    default int getMaxPositions() {
+        return -1;
+    }
 
+    /**
+     * Returns the amount of positions of the given value, i.e. the lowest position from which on only padding indices
+     * are extracted from the value.
+     *
+     * <p>By default, {@link #getMaxPositions()} is returned. Implementations for values of different lengths, e.g.
+     * strings, should return the length of the value.
+     *
+     * @param value The value to determine the length of.
+     * @return The amount of positions of the value, or {@code -1} if it cannot be determined.
+     */
+    default int getLength(T value) {
+        return getMaxPositions();
+    }
 
 }
@@ -1,8 +1,10 @@
 package p1.sort.radix;
 
-import p1.sort.Sort;
+import p1.sort.ArgSort;
 import p1.sort.SortList;
 
+import java.util.Arrays;
+
 import static org.tudalgo.algoutils.student.Student.crash;
 
 /**
@@ -15,12 +17,17 @@ import static org.tudalgo.algoutils.student.Student.crash;
  * is equal to {@link #maxInputLength}. The index associated with an element at a position in a value is extracted using
  * the given {@link RadixIndexExtractor}.
  *
+ * <p> How the elements are distributed into the buckets is determined by the {@link BucketStrategy}. By default,
+ * {@link BucketStrategy#LINKED_LIST} is used.
+ *
  * @param <T> the type of the elements to be sorted.
  *
  * @see Bucket
+ * @see BucketStrategy
  * @see RadixIndexExtractor
+ * @see ArgSort
  */
-public class RadixSort<T> implements Sort<T> {
+public class RadixSort<T> implements ArgSort<T> {
 
     /**
      * The extractor used for mapping the element of a value at a given position to an index in the {@link #buckets} array.
@@ -38,19 +45,54 @@ public class RadixSort<T> implements Sort<T> {
      * <p> It is equal to the lowest number {@code a} where {@code indexExtractor.extractIndex(value, a) == 0}
      * for all values in the sorted {@link SortList}.
      *
-     * <p> It is used for determining the amount of iterations needed to sort the list.
+     * <p> It is used for determining the amount of iterations needed to sort the list. If it is not set, the
+     * {@linkplain RadixIndexExtractor#getMaxPositions() maximum positions} of the {@link #indexExtractor} are used.
+     * In auto mode, it is determined by scanning the values instead.
      */
     private int maxInputLength;
 
+    /**
+     * The strategy used for distributing the elements into the buckets.
+     */
+    private final BucketStrategy bucketStrategy;
+
+    /**
+     * Whether the amount of passes is determined by scanning the values and passes that do not change the order of the
+     * elements are skipped.
+     */
+    private boolean autoMode = false;
+
+    /**
+     * Creates a new {@link RadixSort} instance that uses as many buckets as the radix of the given extractor and
+     * {@link BucketStrategy#LINKED_LIST}.
+     *
+     * @param indexExtractor The extractor used for extracting the key (index) to insert the elements into the buckets.
+     */
+    public RadixSort(RadixIndexExtractor<T> indexExtractor) {
+        this(indexExtractor.getRadix(), indexExtractor);
+    }
+
+    /**
+     * Creates a new {@link RadixSort} instance that uses {@link BucketStrategy#LINKED_LIST}.
+     *
+     * @param radix The amount of buckets to use.
+     * @param indexExtractor The extractor used for extracting the key (index) to insert the elements into the buckets.
+     */
+    public RadixSort(int radix, RadixIndexExtractor<T> indexExtractor) {
+        this(radix, indexExtractor, BucketStrategy.LINKED_LIST);
+    }
+
     /**
      * Creates a new {@link RadixSort} instance.
      *
      * @param radix The amount of buckets to use.
      * @param indexExtractor The extractor used for extracting the key (index) to insert the elements into the buckets.
+     * @param bucketStrategy The strategy used for distributing the elements into the buckets.
      */
     @SuppressWarnings("unchecked")
-    public RadixSort(int radix, RadixIndexExtractor<T> indexExtractor) {
+    public RadixSort(int radix, RadixIndexExtractor<T> indexExtractor, BucketStrategy bucketStrategy) {
         this.indexExtractor = indexExtractor;
+        this.bucketStrategy = bucketStrategy;
         this.buckets = new Bucket[radix];
 
         if (radix < 1) {
@@ -68,8 +110,28 @@ public class RadixSort<T> implements Sort<T> {
 
     @Override
     public void sort(SortList<T> sortList) {
+        int maxInputLength = getPasses();
+        int[][] histograms = null;
+        T[] values = null;
+        if (autoMode || bucketStrategy == BucketStrategy.COUNTING) {
+            // Read the values once for determining the amount of passes and the histograms
+            values = readValues(sortList);
+            if (autoMode) {
+                maxInputLength = scanMaxInputLength(values);
+            }
+            histograms = computeHistograms(values, maxInputLength);
+        }
+
+        if (bucketStrategy == BucketStrategy.COUNTING) {
+            countingSort(sortList, values, histograms);
+            return;
+        }
+
         // Iterate through all positions from 0 to maxInputLength - 1
         for (int i=0; i<maxInputLength; i++) {
+            // Skip the position if all elements would end up in the same bucket
+            if (histograms != null && isRedundant(histograms[i], sortList.getSize())) continue;
+
             // For each element in the sortList, place it into the appropriate bucket based on the current position
             for (int j=0; j<sortList.getSize(); j++) putBucket(sortList.get(j), i);
 
@@ -87,6 +149,182 @@ public class RadixSort<T> implements Sort<T> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The values are read once into an array. Every pass computes the histogram of the current position and
+     * distributes the indices by the prefix sums of the histogram, like {@link BucketStrategy#COUNTING}, regardless of
+     * the configured strategy. Passes in which all values would be assigned to the same bucket are skipped.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int[] argsort(SortList<T> sortList) {
+        int size = sortList.getSize();
+        T[] values = (T[]) new Object[size];
+        int[] indices = new int[size];
+        for (int j = 0; j < size; j++) {
+            values[j] = sortList.get(j);
+            indices[j] = j;
+        }
+
+        int maxInputLength = autoMode ? scanMaxInputLength(values) : getPasses();
+
+        int[] offsets = new int[buckets.length];
+        int[] scratch = new int[size];
+        for (int i = 0; i < maxInputLength; i++) {
+            Arrays.fill(offsets, 0);
+            for (T value : values) {
+                offsets[indexExtractor.extractIndex(value, i)]++;
+            }
+            if (isRedundant(offsets, size)) {
+                continue;
+            }
+
+            // Convert the histogram to the start offsets of the buckets
+            int offset = 0;
+            for (int b = 0; b < offsets.length; b++) {
+                int count = offsets[b];
+                offsets[b] = offset;
+                offset += count;
+            }
+
+            for (int index : indices) {
+                scratch[offsets[indexExtractor.extractIndex(values[index], i)]++] = index;
+            }
+            int[] swap = indices;
+            indices = scratch;
+            scratch = swap;
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the amount of passes needed to sort a list. It is {@link #maxInputLength} if it has been set, and the
+     * {@linkplain RadixIndexExtractor#getMaxPositions() maximum positions} of the {@link #indexExtractor} otherwise.
+     *
+     * @return the amount of passes.
+     */
+    private int getPasses() {
+        if (maxInputLength > 0) {
+            return maxInputLength;
+        }
+        return Math.max(indexExtractor.getMaxPositions(), 0);
+    }
+
+    /**
+     * Reads all values of the given {@link SortList} into a new array.
+     *
+     * @param sortList the {@link SortList} to read.
+     * @return the values of the list.
+     */
+    @SuppressWarnings("unchecked")
+    private T[] readValues(SortList<T> sortList) {
+        T[] values = (T[]) new Object[sortList.getSize()];
+        for (int j = 0; j < values.length; j++) {
+            values[j] = sortList.get(j);
+        }
+        return values;
+    }
+
+    /**
+     * Determines the maximum amount of positions of the given values, using
+     * {@link RadixIndexExtractor#getLength(Object)}. If the extractor cannot determine the length of a value,
+     * {@link #getPasses()} is used instead.
+     *
+     * @param values the values to scan.
+     * @return the maximum amount of positions of the values.
+     */
+    private int scanMaxInputLength(T[] values) {
+        int maxLength = 0;
+        for (T value : values) {
+            int length = indexExtractor.getLength(value);
+            if (length < 0) {
+                return getPasses();
+            }
+            maxLength = Math.max(maxLength, length);
+        }
+        return maxLength;
+    }
+
+    /**
+     * Computes the histograms of the bucket indices of all given positions of the given values.
+     *
+     * @param values the values to scan.
+     * @param maxInputLength the amount of positions to consider.
+     * @return the histogram of every position, indexed by position and bucket index.
+     */
+    private int[][] computeHistograms(T[] values, int maxInputLength) {
+        int[][] histograms = new int[maxInputLength][buckets.length];
+        for (T value : values) {
+            for (int i = 0; i < maxInputLength; i++) {
+                histograms[i][indexExtractor.extractIndex(value, i)]++;
+            }
+        }
+        return histograms;
+    }
+
+    /**
+     * Returns whether a pass with the given histogram would leave the list unchanged, i.e. whether all elements would
+     * be assigned to a single bucket.
+     *
+     * @param histogram the histogram of the pass.
+     * @param size the amount of elements.
+     * @return {@code true} if the pass can be skipped.
+     */
+    private static boolean isRedundant(int[] histogram, int size) {
+        for (int count : histogram) {
+            if (count == size) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sorts the given {@link SortList} using {@link BucketStrategy#COUNTING}.
+     *
+     * <p>Each pass reads the elements into one scratch array and writes them back to the offsets given by the prefix
+     * sums of the histogram of the current position. The first pass reuses the values read for the histograms. The
+     * element order within a bucket is preserved, just like with the FIFO buckets. In auto mode, passes whose histogram
+     * only has a single non-empty bucket are skipped.
+     *
+     * @param sortList the {@link SortList} to sort.
+     * @param values the values of the list, which are used as the scratch array of the first pass.
+     * @param histograms the histograms of all positions, as computed by {@link #computeHistograms(Object[], int)}.
+     */
+    private void countingSort(SortList<T> sortList, T[] values, int[][] histograms) {
+        int size = sortList.getSize();
+        int radix = buckets.length;
+
+        T[] scratch = values;
+        boolean firstPass = true;
+        for (int i = 0; i < histograms.length; i++) {
+            if (autoMode && isRedundant(histograms[i], size)) {
+                continue;
+            }
+
+            // Convert the histogram of the current position to the start offsets of the buckets
+            int[] offsets = histograms[i];
+            int offset = 0;
+            for (int b = 0; b < radix; b++) {
+                int count = offsets[b];
+                offsets[b] = offset;
+                offset += count;
+            }
+
+            if (!firstPass) {
+                for (int j = 0; j < size; j++) {
+                    scratch[j] = sortList.get(j);
+                }
+            }
+            firstPass = false;
+            for (int j = 0; j < size; j++) {
+                T value = scratch[j];
+                sortList.set(offsets[indexExtractor.extractIndex(value, i)]++, value);
+            }
+        }
+    }
+
     /**
      * Adds the given value to one of the {@link #buckets}.
      * The index of the bucket is determined using the {@link #indexExtractor} with the given value and position.
@@ -117,4 +355,18 @@ public class RadixSort<T> implements Sort<T> {
     public void setMaxInputLength(int maxInputLength) {
         this.maxInputLength = maxInputLength;
     }
+
+    /**
+     * Enables or disables the auto mode.
+     *
+     * <p>In auto mode, the values are read once before sorting. The amount of passes is determined from them using
+     * {@link RadixIndexExtractor#getLength(Object)}, so {@link #setMaxInputLength(int)} does not need to be called.
+     * Additionally, the histograms of all positions are computed upfront and every pass in which all elements would be
+     * assigned to the same bucket is skipped, e.g. for positions of a common prefix.
+     *
+     * @param autoMode {@code true} to enable the auto mode.
+     */
+    public void setAutoMode(boolean autoMode) {
+        this.autoMode = autoMode;
+    }
 }
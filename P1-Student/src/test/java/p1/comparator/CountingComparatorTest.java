@@ -0,0 +1,54 @@
+package p1.comparator;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CountingComparator}.
+ */
+public class CountingComparatorTest {
+
+    @Test
+    public void testCountsAndResets() {
+        for (boolean concurrent : new boolean[]{false, true}) {
+            CountingComparator<Integer> comparator =
+                new CountingComparator<>(Comparator.<Integer>naturalOrder(), concurrent);
+            assertEquals(concurrent, comparator.isConcurrent());
+            assertTrue(comparator.compare(1, 2) < 0);
+            assertTrue(comparator.compare(2, 1) > 0);
+            assertEquals(0, comparator.compare(3, 3));
+            assertEquals(3, comparator.getComparisonsCount());
+            assertEquals(3, comparator.getTotalComparisonsCount());
+
+            comparator.reset();
+            assertEquals(0, comparator.getComparisonsCount());
+            assertEquals(0, comparator.getTotalComparisonsCount());
+        }
+    }
+
+    @Test
+    public void testConcurrentCountsAllThreads() {
+        CountingComparator<Integer> comparator = new CountingComparator<>(Comparator.<Integer>naturalOrder(), true);
+        IntStream.range(0, 100_000).parallel().forEach(i -> comparator.compare(i, -i));
+        assertEquals(100_000, comparator.getComparisonsCount());
+        assertEquals(100_000, comparator.getTotalComparisonsCount());
+    }
+
+    @Test
+    public void testSaturatesWithoutConcurrency() throws ReflectiveOperationException {
+        CountingComparator<Integer> comparator = new CountingComparator<>(Comparator.<Integer>naturalOrder());
+        // Counting up to Integer.MAX_VALUE would take too long, so the counter is set directly
+        Field field = CountingComparator.class.getDeclaredField("numberOfComparisons");
+        field.setAccessible(true);
+        field.set(comparator, (long) Integer.MAX_VALUE);
+
+        comparator.compare(1, 2);
+        assertEquals(Integer.MAX_VALUE, comparator.getComparisonsCount());
+        assertEquals(Integer.MAX_VALUE + 1L, comparator.getTotalComparisonsCount());
+    }
+}
@@ -0,0 +1,132 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.radix.IntKeyIndexExtractor;
+import p1.sort.radix.IntegerIndexExtractor;
+import p1.sort.radix.LatinStringIndexExtractor;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AdaptiveSort}.
+ */
+public class AdaptiveSortTest {
+
+    /**
+     * Sorts the given values with the given {@link AdaptiveSort}, asserts that the result is sorted and returns the
+     * chosen engine.
+     */
+    private static AdaptiveSort.Engine sortAndCheck(AdaptiveSort<Integer> adaptiveSort, Integer[] values) {
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+
+        ArraySortList<Integer> sortList = new ArraySortList<>(values);
+        adaptiveSort.sort(sortList);
+        assertArrayEquals(expected, sortList.toArray(), "engine " + adaptiveSort.getEngine());
+        assertNotNull(adaptiveSort.getProfile());
+        return adaptiveSort.getEngine();
+    }
+
+    /**
+     * Returns the given number of distinct values in random order.
+     */
+    private static Integer[] shuffled(int size, Random random) {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i * 3 - size;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    @Test
+    public void testSmallListsUseInsertionSort() {
+        AdaptiveSort<Integer> adaptiveSort = new AdaptiveSort<>(Comparator.<Integer>naturalOrder());
+        for (int size : new int[]{0, 1, 2, AdaptiveSort.SMALL_SIZE - 1}) {
+            assertEquals(AdaptiveSort.Engine.INSERTION, sortAndCheck(adaptiveSort, shuffled(size, new Random(1))));
+        }
+    }
+
+    @Test
+    public void testPresortedListsUseNaturalMerge() {
+        AdaptiveSort<Integer> adaptiveSort = new AdaptiveSort<>(Comparator.<Integer>naturalOrder());
+        Integer[] ascending = new Integer[1000];
+        Integer[] descending = new Integer[1000];
+        for (int i = 0; i < 1000; i++) {
+            ascending[i] = i;
+            descending[i] = 1000 - i;
+        }
+        assertEquals(AdaptiveSort.Engine.NATURAL_MERGE, sortAndCheck(adaptiveSort, ascending));
+        assertEquals(AdaptiveSort.Engine.NATURAL_MERGE, sortAndCheck(adaptiveSort, descending));
+    }
+
+    @Test
+    public void testManyDuplicatesUseIntroSort() {
+        Random random = new Random(2);
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(3);
+        }
+        AdaptiveSort<Integer> adaptiveSort = new AdaptiveSort<>(Comparator.<Integer>naturalOrder());
+        assertEquals(AdaptiveSort.Engine.INTROSORT, sortAndCheck(adaptiveSort, values));
+    }
+
+    @Test
+    public void testRandomListsUseRadixSortOrHybridSort() {
+        Integer[] values = shuffled(1000, new Random(3));
+        for (int i = 0; i < values.length; i++) {
+            values[i] += 1000;
+        }
+
+        AdaptiveSort<Integer> radix = new AdaptiveSort<>(Comparator.naturalOrder(), new IntKeyIndexExtractor());
+        assertEquals(AdaptiveSort.Engine.RADIX, sortAndCheck(radix, values));
+
+        AdaptiveSort<Integer> variable = new AdaptiveSort<>(Comparator.naturalOrder(), new IntegerIndexExtractor(10));
+        assertEquals(AdaptiveSort.Engine.HYBRID, sortAndCheck(variable, values));
+
+        AdaptiveSort<Integer> hybrid = new AdaptiveSort<>(Comparator.<Integer>naturalOrder());
+        assertEquals(AdaptiveSort.Engine.HYBRID, sortAndCheck(hybrid, values));
+        assertTrue(hybrid.getComparisonsCount() > 0);
+    }
+
+    @Test
+    public void testStringsOfDifferentLengthsDoNotUseRadixSort() {
+        Random random = new Random(4);
+        String[] values = new String[1000];
+        for (int i = 0; i < values.length; i++) {
+            StringBuilder builder = new StringBuilder(Integer.toString(i, 26));
+            for (int j = random.nextInt(4); j > 0; j--) {
+                builder.append((char) ('a' + random.nextInt(26)));
+            }
+            values[i] = builder.toString().replaceAll("[0-9]", "x");
+        }
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        String[] expected = values.clone();
+        Arrays.sort(expected);
+
+        AdaptiveSort<String> adaptiveSort =
+            new AdaptiveSort<>(Comparator.<String>naturalOrder(), new LatinStringIndexExtractor());
+        ArraySortList<String> sortList = new ArraySortList<>(values);
+        adaptiveSort.sort(sortList);
+        assertNotEquals(AdaptiveSort.Engine.RADIX, adaptiveSort.getEngine());
+        String[] actual = new String[values.length];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = sortList.get(i);
+        }
+        assertArrayEquals(expected, actual);
+    }
+}
@@ -0,0 +1,97 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.radix.IntegerIndexExtractor;
+import p1.sort.radix.RadixSort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ArgSort} and its implementations.
+ */
+public class ArgSortTest {
+
+    /**
+     * Returns random values with many duplicates.
+     */
+    private static Integer[] randomValues(int size, Random random) {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(20);
+        }
+        return values;
+    }
+
+    /**
+     * Asserts that the given permutation sorts the given values stably and that the values are unchanged.
+     */
+    private static void assertStablePermutation(Integer[] values, ArraySortList<Integer> sortList, int[] permutation) {
+        assertArrayEquals(values, sortList.toArray(), "the list has been modified");
+        assertEquals(0, sortList.getWriteCount());
+        assertEquals(values.length, permutation.length);
+        for (int i = 1; i < permutation.length; i++) {
+            int previous = values[permutation[i - 1]];
+            int current = values[permutation[i]];
+            assertTrue(previous < current || previous == current && permutation[i - 1] < permutation[i],
+                "index " + i);
+        }
+    }
+
+    @Test
+    public void testHybridSortArgsort() {
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 15, 16, 17, 2000}) {
+            Integer[] values = randomValues(size, random);
+            ArraySortList<Integer> sortList = new ArraySortList<>(values);
+            int[] permutation = new HybridSort<>(8, Comparator.<Integer>naturalOrder()).argsort(sortList);
+            assertStablePermutation(values, sortList, permutation);
+        }
+    }
+
+    @Test
+    public void testRadixSortArgsort() {
+        Random random = new Random(2);
+        for (int size : new int[]{0, 1, 2, 2000}) {
+            Integer[] values = randomValues(size, random);
+            ArraySortList<Integer> sortList = new ArraySortList<>(values);
+            RadixSort<Integer> radixSort = new RadixSort<>(new IntegerIndexExtractor(10));
+            radixSort.setMaxInputLength(2);
+            assertStablePermutation(values, sortList, radixSort.argsort(sortList));
+        }
+    }
+
+    @Test
+    public void testApplyReordersParallelLists() {
+        Integer[] keys = randomValues(500, new Random(3));
+        String[] names = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            names[i] = "name" + i;
+        }
+        ArraySortList<Integer> keyList = new ArraySortList<>(keys);
+        ArraySortList<String> nameList = new ArraySortList<>(names);
+        int[] permutation = new HybridSort<>(8, Comparator.<Integer>naturalOrder()).argsort(keyList);
+
+        ArgSort.apply(permutation, keyList, nameList);
+
+        Integer[] sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        assertArrayEquals(sortedKeys, keyList.toArray());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(names[permutation[i]], nameList.get(i));
+            assertEquals(keys[permutation[i]], keyList.get(i));
+        }
+    }
+
+    @Test
+    public void testApplyRejectsInvalidPermutations() {
+        ArraySortList<Integer> sortList = new ArraySortList<>(new Integer[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.apply(new int[]{0, 0, 1}, sortList));
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.apply(new int[]{0, 1, 3}, sortList));
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.apply(new int[]{0, 1}, sortList));
+        assertArrayEquals(new Integer[]{1, 2, 3}, sortList.toArray());
+    }
+}
@@ -0,0 +1,88 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link BaseCase} algorithms and their use in {@link HybridSort}.
+ */
+public class BaseCaseTest {
+
+    /**
+     * A value with a key that is used for sorting and an id that shows whether equal keys keep their order.
+     */
+    private record Entry(int key, int id) {
+    }
+
+    /**
+     * The comparator of the {@link Entry Entries}.
+     */
+    private static final Comparator<Entry> COMPARATOR = Comparator.comparingInt(Entry::key);
+
+    @Test
+    public void testSortsOnlyTheGivenRange() {
+        Random random = new Random(1);
+        for (BaseCase baseCase : BaseCase.values()) {
+            for (int size = 0; size <= BaseCase.MAX_NETWORK_SIZE + 2; size++) {
+                Integer[] values = new Integer[size + 4];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = random.nextInt(10);
+                }
+                ArraySortList<Integer> sortList = new ArraySortList<>(values);
+                baseCase.sort(sortList, 2, size + 1, Comparator.naturalOrder());
+
+                Integer[] expected = values.clone();
+                Arrays.sort(expected, 2, size + 2);
+                assertArrayEquals(expected, sortList.toArray(), baseCase + ", size " + size);
+            }
+        }
+    }
+
+    @Test
+    public void testStableBaseCasesKeepEqualElementsInOrder() {
+        Random random = new Random(2);
+        Entry[] entries = new Entry[40];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new Entry(random.nextInt(4), i);
+        }
+        Entry[] expected = entries.clone();
+        Arrays.sort(expected, COMPARATOR);
+
+        for (BaseCase baseCase : new BaseCase[]{BaseCase.BUBBLE, BaseCase.INSERTION, BaseCase.BINARY_INSERTION}) {
+            ArraySortList<Entry> sortList = new ArraySortList<>(entries);
+            baseCase.sort(sortList, 0, entries.length - 1, COMPARATOR);
+            assertArrayEquals(expected, sortList.toArray(), baseCase.toString());
+        }
+    }
+
+    @Test
+    public void testHybridSortWithEveryBaseCase() {
+        Random random = new Random(3);
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+
+        for (BaseCase baseCase : BaseCase.values()) {
+            HybridSort<Integer> hybridSort = new HybridSort<>(16, Comparator.<Integer>naturalOrder());
+            hybridSort.setBaseCase(baseCase);
+            ArraySortList<Integer> sortList = new ArraySortList<>(values);
+            hybridSort.sort(sortList);
+            assertArrayEquals(expected, sortList.toArray(), baseCase.toString());
+            assertTrue(hybridSort.getComparisonsCount() > 0);
+        }
+    }
+
+    @Test
+    public void testNullBaseCaseThrows() {
+        HybridSort<Integer> hybridSort = new HybridSort<>(16, Comparator.<Integer>naturalOrder());
+        assertThrows(IllegalArgumentException.class, () -> hybridSort.setBaseCase(null));
+    }
+}
@@ -0,0 +1,67 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BlockMergeSort}.
+ */
+public class BlockMergeSortTest {
+
+    /**
+     * A value with a key that is used for sorting and an id that shows whether equal keys keep their order.
+     */
+    private record Entry(int key, int id) {
+    }
+
+    /**
+     * Sorts the given entries with a {@link BlockMergeSort} and asserts that the result is sorted stably.
+     */
+    private static void sortAndCheck(Entry[] entries, String message) {
+        Comparator<Entry> comparator = Comparator.comparingInt(Entry::key);
+        Entry[] expected = entries.clone();
+        Arrays.sort(expected, comparator);
+
+        BlockMergeSort<Entry> blockMergeSort = new BlockMergeSort<>(comparator);
+        ArraySortList<Entry> sortList = new ArraySortList<>(entries);
+        blockMergeSort.sort(sortList);
+        assertArrayEquals(expected, sortList.toArray(), message);
+        if (entries.length > 1) {
+            assertTrue(blockMergeSort.getComparisonsCount() > 0, message);
+        }
+    }
+
+    @Test
+    public void testIsStable() {
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 15, 16, 17, 31, 32, 33, 100, 1000, 10000}) {
+            for (int keys : new int[]{1, 5, size + 1}) {
+                Entry[] entries = new Entry[size];
+                for (int i = 0; i < size; i++) {
+                    entries[i] = new Entry(random.nextInt(keys), i);
+                }
+                sortAndCheck(entries, "size " + size + ", keys " + keys);
+            }
+        }
+    }
+
+    @Test
+    public void testSortsPatterns() {
+        int size = 5000;
+        Entry[][] patterns = new Entry[3][size];
+        for (int i = 0; i < size; i++) {
+            patterns[0][i] = new Entry(i, i);
+            patterns[1][i] = new Entry(size - i, i);
+            // One long run followed by a short one, so the shorter run of the last merge does not fit into the buffer
+            patterns[2][i] = new Entry(i < size - 200 ? 2 * i : 2 * (i - size + 200) + 1, i);
+        }
+        for (int p = 0; p < patterns.length; p++) {
+            sortAndCheck(patterns[p], "pattern " + p);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+import p1.card.Card;
+import p1.card.CardColor;
+import p1.comparator.CardComparator;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CardSort}.
+ */
+public class CardSortTest {
+
+    /**
+     * Returns the given number of random cards.
+     */
+    private static Card[] randomCards(int size, Random random) {
+        Card[] cards = new Card[size];
+        for (int i = 0; i < size; i++) {
+            cards[i] = new Card(CardColor.values()[random.nextInt(4)], 2 + random.nextInt(12));
+        }
+        return cards;
+    }
+
+    @Test
+    public void testPackMatchesCardComparator() {
+        CardComparator comparator = new CardComparator();
+        for (CardColor color1 : CardColor.values()) {
+            for (int value1 = 2; value1 <= 13; value1++) {
+                Card card1 = new Card(color1, value1);
+                int key = CardSort.pack(card1);
+                assertTrue(key >= 0 && key < 48, "key " + key);
+                for (CardColor color2 : CardColor.values()) {
+                    for (int value2 = 2; value2 <= 13; value2++) {
+                        Card card2 = new Card(color2, value2);
+                        assertEquals(Integer.signum(comparator.compare(card1, card2)),
+                            Integer.signum(Integer.compare(key, CardSort.pack(card2))), card1 + " " + card2);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSortsStablyWithOneReadAndWritePerCard() {
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 48, 1000}) {
+            Card[] cards = randomCards(size, random);
+            Card[] expected = cards.clone();
+            Arrays.sort(expected, new CardComparator());
+
+            ArraySortList<Card> sortList = new ArraySortList<>(cards);
+            CardSort cardSort = new CardSort();
+            cardSort.sort(sortList);
+
+            Card[] actual = sortList.toArray();
+            for (int i = 0; i < size; i++) {
+                // Equal cards are distinct instances, so identity shows whether their order has been kept
+                assertSame(expected[i], actual[i], "size " + size + ", index " + i);
+            }
+            assertEquals(size, sortList.getReadCount(), "size " + size);
+            assertEquals(size, sortList.getWriteCount(), "size " + size);
+            assertEquals(0, cardSort.getComparisonsCount());
+        }
+    }
+
+    @Test
+    public void testNullCardThrows() {
+        ArraySortList<Card> sortList = new ArraySortList<>(new Card[]{new Card(CardColor.CLUBS, 2), null});
+        assertThrows(NullPointerException.class, () -> new CardSort().sort(sortList));
+    }
+}
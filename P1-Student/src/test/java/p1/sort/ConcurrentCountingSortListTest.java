@@ -0,0 +1,46 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ConcurrentCountingSortList}.
+ */
+public class ConcurrentCountingSortListTest {
+
+    @Test
+    public void testCountsAllThreads() {
+        ConcurrentCountingSortList<Integer> sortList =
+            new ConcurrentCountingSortList<>(new ArraySortList<>(new Integer[1000], false));
+        IntStream.range(0, 1000).parallel().forEach(i -> sortList.set(i, sortList.get(i) == null ? i : -1));
+
+        assertEquals(1000, sortList.getReadCount());
+        assertEquals(1000, sortList.getWriteCount());
+        assertEquals(1000, sortList.getTotalReadCount());
+        assertEquals(1000, sortList.getTotalWriteCount());
+
+        sortList.resetCounts();
+        assertEquals(0, sortList.getReadCount());
+        assertEquals(0, sortList.getWriteCount());
+    }
+
+    @Test
+    public void testParallelSortWithConcurrentCounting() {
+        Integer[] values = IntStream.range(0, 5000).map(i -> (i * 7919) % 5000).boxed().toArray(Integer[]::new);
+        ConcurrentCountingSortList<Integer> sortList = new ConcurrentCountingSortList<>(new ArraySortList<>(values));
+        HybridSort<Integer> hybridSort = new HybridSort<>(16, Comparator.<Integer>naturalOrder());
+        hybridSort.setParallelThreshold(256);
+        hybridSort.sort(sortList);
+
+        Integer[] expected = IntStream.range(0, 5000).boxed().toArray(Integer[]::new);
+        assertArrayEquals(expected, sortList.toArray());
+        assertTrue(hybridSort.getTotalComparisonsCount() > 0);
+        assertEquals(hybridSort.getTotalComparisonsCount(), hybridSort.getComparisonsCount());
+        assertTrue(sortList.getTotalReadCount() >= 5000);
+        assertTrue(sortList.getTotalWriteCount() >= 5000);
+    }
+}
@@ -0,0 +1,136 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the tuning and parallel search of {@link HybridOptimizer}.
+ */
+public class HybridOptimizerTest {
+
+    /**
+     * Returns the number of read and write operations of sorting the given array with the given k-value.
+     */
+    private static int operations(Integer[] array, int k) {
+        HybridSort<Integer> hybridSort = new HybridSort<>(k, Comparator.<Integer>naturalOrder());
+        ArraySortList<Integer> sortList = new ArraySortList<>(array);
+        hybridSort.sort(sortList);
+        return sortList.getReadCount() + sortList.getWriteCount();
+    }
+
+    /**
+     * Returns an array of the given size with random values.
+     */
+    private static Integer[] randomArray(Random random, int size) {
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(1000);
+        }
+        return array;
+    }
+
+    @Test
+    public void testParallelIsNotWorseThanSequential() {
+        Random random = new Random(1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int size : new int[]{0, 1, 2, 10, 50, 200}) {
+                Integer[] array = randomArray(random, size);
+                HybridSort<Integer> hybridSort = new HybridSort<>(5, Comparator.<Integer>naturalOrder());
+
+                int sequentialK = HybridOptimizer.optimize(hybridSort, array);
+                hybridSort.setK(5);
+                int parallelK = HybridOptimizer.optimizeParallel(hybridSort, array, size, new Random(2), pool);
+
+                assertTrue(parallelK >= 0 && parallelK <= size + 1, "size " + size);
+                assertTrue(operations(array, parallelK) <= operations(array, sequentialK), "size " + size);
+                assertEquals(5, hybridSort.getK());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelFindsGlobalMinimumOfSmallRange() {
+        Integer[] array = randomArray(new Random(3), 30);
+        int minOps = Integer.MAX_VALUE;
+        for (int k = 0; k <= HybridOptimizer.maxK(array.length); k++) {
+            minOps = Math.min(minOps, operations(array, k));
+        }
+
+        // With enough candidates, the first round already evaluates every k-value
+        ForkJoinPool pool = new ForkJoinPool(32);
+        try {
+            HybridSort<Integer> hybridSort = new HybridSort<>(5, Comparator.<Integer>naturalOrder());
+            int k = HybridOptimizer.optimizeParallel(hybridSort, array, array.length, new Random(4), pool);
+            assertEquals(minOps, operations(array, k));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelComparisonsStayBounded() {
+        AtomicLong comparisons = new AtomicLong();
+        Comparator<Integer> comparator = (a, b) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(a, b);
+        };
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int size : new int[]{1000, 4000, 16000}) {
+                Integer[] array = randomArray(new Random(size), size);
+                comparisons.set(0);
+                HybridOptimizer.optimizeParallel(new HybridSort<>(5, comparator), array, size, new Random(6), pool);
+                // Every evaluation costs O(n sqrt n) comparisons, instead of O(n^2) for k-values up to n
+                assertTrue(comparisons.get() <= 12 * size * Math.sqrt(size), "size " + size + ": " + comparisons);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // The default overload evaluates the k-values on a sample of bounded size
+        long[] counts = new long[2];
+        int[] sizes = {2 * HybridOptimizer.DEFAULT_SAMPLE_SIZE, 8 * HybridOptimizer.DEFAULT_SAMPLE_SIZE};
+        for (int i = 0; i < sizes.length; i++) {
+            comparisons.set(0);
+            HybridOptimizer.optimizeParallel(new HybridSort<>(5, comparator), randomArray(new Random(i), sizes[i]));
+            counts[i] = comparisons.get();
+        }
+        assertTrue(counts[1] <= 2 * counts[0], counts[0] + " " + counts[1]);
+    }
+
+    @Test
+    public void testCopyKeepsSettings() {
+        HybridSort<Integer> hybridSort = new HybridSort<>(5, Comparator.<Integer>naturalOrder());
+        hybridSort.setBaseCase(BaseCase.INSERTION);
+        hybridSort.setNaturalMerge(true);
+        hybridSort.setParallelThreshold(128);
+        hybridSort.setKeyPrefix(KeyPrefix.INTEGER);
+
+        HybridSort<Integer> copy = hybridSort.copy(9);
+        assertEquals(9, copy.getK());
+        assertEquals(BaseCase.INSERTION, copy.getBaseCase());
+        assertTrue(copy.isNaturalMerge());
+        assertEquals(128, copy.getParallelThreshold());
+        assertSame(KeyPrefix.INTEGER, copy.getKeyPrefix());
+        assertEquals(5, hybridSort.getK());
+    }
+
+    @Test
+    public void testOptimizeTuningSetsBestCombination() {
+        Integer[] array = randomArray(new Random(5), 100);
+        HybridSort<Integer> hybridSort = new HybridSort<>(5, Comparator.<Integer>naturalOrder());
+        HybridOptimizer.Tuning tuning = HybridOptimizer.optimizeTuning(hybridSort, array);
+
+        assertEquals(tuning.baseCase(), hybridSort.getBaseCase());
+        assertEquals(tuning.k(), hybridSort.getK());
+    }
+}
@@ -0,0 +1,81 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the parallel mode of {@link HybridSort}.
+ */
+public class HybridSortParallelTest {
+
+    /**
+     * A value with a key that is used for sorting and an id that shows whether equal keys keep their order.
+     */
+    private record Entry(int key, int id) {
+    }
+
+    /**
+     * Returns entries with random keys from 0 (inclusive) to the given bound (exclusive) and ascending ids.
+     */
+    private static Entry[] randomEntries(Random random, int size, int bound) {
+        Entry[] entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry(random.nextInt(bound), i);
+        }
+        return entries;
+    }
+
+    @Test
+    public void testParallelIsStableAndCountsLikeSequential() {
+        Comparator<Entry> comparator = Comparator.comparingInt(Entry::key);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int size : new int[]{0, 1, 2, 63, 64, 5000}) {
+                Entry[] entries = randomEntries(new Random(size), size, 50);
+                Entry[] expected = entries.clone();
+                Arrays.sort(expected, comparator);
+
+                HybridSort<Entry> sequential = new HybridSort<>(8, comparator);
+                ArraySortList<Entry> sequentialList = new ArraySortList<>(entries);
+                sequential.sort(sequentialList);
+
+                HybridSort<Entry> parallel = new HybridSort<>(8, comparator);
+                parallel.setParallelThreshold(64);
+                parallel.setPool(pool);
+                ArraySortList<Entry> parallelList = new ArraySortList<>(entries);
+                parallel.sort(parallelList);
+
+                assertArrayEquals(expected, parallelList.toArray(), "size " + size);
+                assertArrayEquals(expected, sequentialList.toArray(), "size " + size);
+                assertEquals(sequential.getTotalComparisonsCount(), parallel.getTotalComparisonsCount());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelReadsAndWritesEveryElementOnce() {
+        Integer[] values = {9, 3, 7, 1, 8, 2, 6, 4, 5, 0};
+        HybridSort<Integer> hybridSort = new HybridSort<>(2, Comparator.<Integer>naturalOrder());
+        hybridSort.setParallelThreshold(4);
+        ArraySortList<Integer> sortList = new ArraySortList<>(values);
+        hybridSort.sort(sortList);
+
+        assertArrayEquals(new Integer[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, sortList.toArray());
+        assertEquals(values.length, sortList.getReadCount());
+        assertEquals(values.length, sortList.getWriteCount());
+    }
+
+    @Test
+    public void testNegativeThresholdThrows() {
+        HybridSort<Integer> hybridSort = new HybridSort<>(2, Comparator.<Integer>naturalOrder());
+        assertThrows(IllegalArgumentException.class, () -> hybridSort.setParallelThreshold(-1));
+    }
+}
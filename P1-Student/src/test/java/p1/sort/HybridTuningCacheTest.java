@@ -0,0 +1,93 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.HybridTuningCache.Profile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link HybridTuningCache}.
+ */
+public class HybridTuningCacheTest {
+
+    /**
+     * Returns an array of the given size with random values.
+     */
+    private static Integer[] randomArray(Random random, int size) {
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt();
+        }
+        return array;
+    }
+
+    @Test
+    public void testTuneCachesProfile() {
+        HybridTuningCache cache = new HybridTuningCache(4);
+        HybridSort<Integer> hybridSort = new HybridSort<>(1, Comparator.<Integer>naturalOrder());
+        Integer[] array = randomArray(new Random(1), 100);
+
+        int k = cache.tune(hybridSort, array);
+        assertEquals(HybridOptimizer.optimize(new HybridSort<>(1, Comparator.<Integer>naturalOrder()), array), k);
+        assertEquals(k, hybridSort.getK());
+        assertEquals(1, cache.size());
+
+        // An array with the same profile is served from the cache
+        hybridSort.setK(1);
+        assertEquals(k, cache.tune(hybridSort, randomArray(new Random(2), 100)));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedProfileIsEvicted() {
+        HybridTuningCache cache = new HybridTuningCache(2);
+        HybridSort<Integer> hybridSort = new HybridSort<>(1, Comparator.<Integer>naturalOrder());
+        Random random = new Random(3);
+        cache.tune(hybridSort, randomArray(random, 8));
+        cache.tune(hybridSort, randomArray(random, 16));
+        cache.tune(hybridSort, randomArray(random, 32));
+
+        assertEquals(2, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCacheIsPersisted() throws IOException {
+        Path file = Files.createTempFile("tuning", ".properties");
+        Files.delete(file);
+        try {
+            HybridSort<Integer> hybridSort = new HybridSort<>(1, Comparator.<Integer>naturalOrder());
+            Integer[] array = randomArray(new Random(4), 64);
+            int k = new HybridTuningCache(4, file).tune(hybridSort, array);
+            assertTrue(Files.exists(file));
+
+            HybridTuningCache loaded = new HybridTuningCache(4, file);
+            assertEquals(1, loaded.size());
+            hybridSort.setK(1);
+            assertEquals(k, loaded.tune(hybridSort, array));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testProfile() {
+        Integer[] sorted = {1, 2, 3, 4, 5, 6, 7, 8};
+        Comparator<Integer> comparator = Comparator.naturalOrder();
+        Profile profile = Profile.of(sorted, comparator);
+        assertEquals(new Profile(3, 10, 0), profile);
+        assertEquals(profile, Profile.parse(profile.toString()));
+        assertEquals(profile, Profile.of(new ArraySortList<>(sorted), comparator));
+
+        assertEquals(new Profile(0, 10, 0), Profile.of(new Integer[0], comparator));
+        assertThrows(IllegalArgumentException.class, () -> Profile.parse("1/2"));
+        assertThrows(IllegalArgumentException.class, () -> new HybridTuningCache(0));
+    }
+}
@@ -0,0 +1,77 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IntroSort}.
+ */
+public class IntroSortTest {
+
+    /**
+     * Sorts the given values with an {@link IntroSort} and asserts that the result is sorted.
+     *
+     * @return the number of comparisons made.
+     */
+    private static int sortAndCheck(Integer[] values, String message) {
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+
+        IntroSort<Integer> introSort = new IntroSort<>(Comparator.<Integer>naturalOrder());
+        ArraySortList<Integer> sortList = new ArraySortList<>(values);
+        introSort.sort(sortList);
+        assertArrayEquals(expected, sortList.toArray(), message);
+        return introSort.getComparisonsCount();
+    }
+
+    @Test
+    public void testSortsRandomValues() {
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 15, 16, 17, 1000, 10000}) {
+            Integer[] values = random.ints(size).boxed().toArray(Integer[]::new);
+            sortAndCheck(values, "size " + size);
+        }
+    }
+
+    @Test
+    public void testSortsMostlyEqualValues() {
+        Random random = new Random(2);
+        for (int size : new int[]{100, 1000, 10000}) {
+            // Most values are equal to the pivot, and the other ones are split evenly around it
+            Integer[] values = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(10) < 9 ? 0 : random.nextInt(2001) - 1000;
+            }
+            sortAndCheck(values, "size " + size);
+        }
+    }
+
+    @Test
+    public void testEqualValuesNeedLinearComparisons() {
+        Integer[] values = new Integer[10000];
+        Arrays.fill(values, 7);
+        // A single partition with the median of three as the pivot
+        assertTrue(sortAndCheck(values, "equal values") <= values.length + 3);
+    }
+
+    @Test
+    public void testAdversarialPatternsStayWithinNLogN() {
+        int size = 1 << 14;
+        Integer[][] patterns = new Integer[4][size];
+        for (int i = 0; i < size; i++) {
+            patterns[0][i] = i;
+            patterns[1][i] = size - i;
+            patterns[2][i] = Math.min(i, size - i);
+            patterns[3][i] = i % 2 == 0 ? i : size - i;
+        }
+        for (int p = 0; p < patterns.length; p++) {
+            int comparisons = sortAndCheck(patterns[p], "pattern " + p);
+            assertTrue(comparisons <= 4 * size * 14, "pattern " + p + ": " + comparisons);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link KWayMerge}.
+ */
+public class KWayMergeTest {
+
+    /**
+     * A value with a key that is used for sorting and an id that shows whether equal keys keep their order.
+     */
+    private record Entry(int key, int id) {
+    }
+
+    /**
+     * The comparator of the entries.
+     */
+    private static final Comparator<Entry> COMPARATOR = Comparator.comparingInt(Entry::key);
+
+    /**
+     * Returns the given number of sorted lists with random sizes up to the given maximum. The ids increase from list
+     * to list, so a stable merge keeps the ids of equal keys in ascending order.
+     */
+    private static List<ArraySortList<Entry>> sortedLists(int k, int maxSize, Random random) {
+        List<ArraySortList<Entry>> sortLists = new ArrayList<>();
+        int id = 0;
+        for (int i = 0; i < k; i++) {
+            Entry[] entries = new Entry[random.nextInt(maxSize + 1)];
+            for (int j = 0; j < entries.length; j++) {
+                entries[j] = new Entry(random.nextInt(50), id++);
+            }
+            Arrays.sort(entries, COMPARATOR);
+            sortLists.add(new ArraySortList<>(entries));
+        }
+        return sortLists;
+    }
+
+    /**
+     * Returns the expected result of merging the given lists stably.
+     */
+    private static Entry[] expected(List<ArraySortList<Entry>> sortLists) {
+        List<Entry> all = new ArrayList<>();
+        for (ArraySortList<Entry> sortList : sortLists) {
+            for (int i = 0; i < sortList.getSize(); i++) {
+                all.add(sortList.get(i));
+            }
+        }
+        Entry[] expected = all.toArray(Entry[]::new);
+        Arrays.sort(expected, COMPARATOR);
+        return expected;
+    }
+
+    @Test
+    public void testMergeIsStable() {
+        Random random = new Random(1);
+        for (int k : new int[]{0, 1, 2, 3, 7, 64}) {
+            for (int parallelism : new int[]{1, 2, 4}) {
+                List<ArraySortList<Entry>> sortLists = sortedLists(k, 200, random);
+                KWayMerge<Entry> kWayMerge = new KWayMerge<>(COMPARATOR);
+                kWayMerge.setParallelism(parallelism);
+                SortList<Entry> merged = kWayMerge.merge(sortLists);
+                assertArrayEquals(expected(sortLists), merged.toArray(), "k " + k + ", parallelism " + parallelism);
+            }
+        }
+    }
+
+    @Test
+    public void testMergeOfManySingleElementLists() {
+        // More non-empty lists than samples used to produce an empty sample in parallel mode
+        for (int parallelism : new int[]{2, 4}) {
+            List<ArraySortList<Entry>> sortLists = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                sortLists.add(new ArraySortList<>(new Entry[]{new Entry((i * 37) % 200, i)}));
+            }
+            KWayMerge<Entry> kWayMerge = new KWayMerge<>(COMPARATOR);
+            kWayMerge.setParallelism(parallelism);
+            assertArrayEquals(expected(sortLists), kWayMerge.merge(sortLists).toArray(), "parallelism " + parallelism);
+        }
+    }
+
+    @Test
+    public void testMergeOfEmptyAndTinyLists() {
+        Random random = new Random(2);
+        for (int parallelism : new int[]{1, 3}) {
+            List<ArraySortList<Entry>> sortLists = sortedLists(500, 2, random);
+            sortLists.add(new ArraySortList<>(0));
+            KWayMerge<Entry> kWayMerge = new KWayMerge<>(COMPARATOR);
+            kWayMerge.setParallelism(parallelism);
+            assertArrayEquals(expected(sortLists), kWayMerge.merge(sortLists).toArray(), "parallelism " + parallelism);
+        }
+    }
+
+    @Test
+    public void testIteratorAndConsumer() {
+        List<ArraySortList<Entry>> sortLists = sortedLists(9, 100, new Random(3));
+        Entry[] expected = expected(sortLists);
+        KWayMerge<Entry> kWayMerge = new KWayMerge<>(COMPARATOR);
+
+        List<Entry> consumed = new ArrayList<>();
+        kWayMerge.merge(sortLists, consumed::add);
+        assertArrayEquals(expected, consumed.toArray());
+
+        List<Entry> iterated = new ArrayList<>();
+        Iterator<Entry> iterator = kWayMerge.iterator(sortLists);
+        iterator.forEachRemaining(iterated::add);
+        assertArrayEquals(expected, iterated.toArray());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testComparisonsAreLogarithmicInK() {
+        int k = 16;
+        List<ArraySortList<Entry>> sortLists = sortedLists(k, 1000, new Random(4));
+        int total = 0;
+        for (ArraySortList<Entry> sortList : sortLists) {
+            total += sortList.getSize();
+        }
+        KWayMerge<Entry> kWayMerge = new KWayMerge<>(COMPARATOR);
+        kWayMerge.merge(sortLists);
+        // Building the tree needs k - 1 comparisons and every element at most log k more
+        assertTrue(kWayMerge.getTotalComparisonsCount() <= k - 1 + (long) total * 4,
+            "comparisons: " + kWayMerge.getTotalComparisonsCount());
+    }
+
+    @Test
+    public void testRejectsInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new KWayMerge<>(COMPARATOR).setParallelism(0));
+    }
+}
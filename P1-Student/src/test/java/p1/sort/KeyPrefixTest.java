@@ -0,0 +1,83 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link KeyPrefix} and the key prefix mode of {@link HybridSort}.
+ */
+public class KeyPrefixTest {
+
+    /**
+     * A value with a key that is used for sorting and an id that shows whether equal keys keep their order.
+     */
+    private record Entry(String key, int id) {
+    }
+
+    /**
+     * Asserts that the unsigned order of the prefixes of the given values never contradicts the natural order.
+     */
+    private static <T extends Comparable<T>> void assertConsistent(KeyPrefix<T> keyPrefix, T[] values) {
+        for (T a : values) {
+            for (T b : values) {
+                int prefixOrder = Long.compareUnsigned(keyPrefix.prefix(a), keyPrefix.prefix(b));
+                if (prefixOrder != 0) {
+                    assertEquals(Integer.signum(prefixOrder), Integer.signum(a.compareTo(b)), a + " " + b);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPrefixesAreConsistent() {
+        assertConsistent(KeyPrefix.INTEGER, new Integer[]{Integer.MIN_VALUE, -2, -1, 0, 1, 2, Integer.MAX_VALUE});
+        assertConsistent(KeyPrefix.LONG, new Long[]{Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE});
+        assertConsistent(KeyPrefix.STRING,
+            new String[]{"", "a", "a\u0000", "ab", "abcd", "abcde", "abcdf", "b", "\uffff", "\ud83d\ude00"});
+    }
+
+    @Test
+    public void testSortsStablyAndMatchesPlainSort() {
+        Comparator<Entry> comparator = Comparator.comparing(Entry::key);
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 31, 32, 33, 3000}) {
+            Entry[] entries = new Entry[size];
+            for (int i = 0; i < size; i++) {
+                // Long shared prefixes make the comparator decide between many entries
+                entries[i] = new Entry((random.nextBoolean() ? "same" : "") + random.nextInt(50), i);
+            }
+            Entry[] expected = entries.clone();
+            Arrays.sort(expected, comparator);
+
+            HybridSort<Entry> hybridSort = new HybridSort<>(8, comparator);
+            hybridSort.setKeyPrefix(entry -> KeyPrefix.STRING.prefix(entry.key()));
+            ArraySortList<Entry> sortList = new ArraySortList<>(entries);
+            hybridSort.sort(sortList);
+
+            assertArrayEquals(expected, sortList.toArray(), "size " + size);
+            // The elements are read and written back once
+            assertEquals(size, sortList.getReadCount(), "size " + size);
+            assertEquals(size, sortList.getWriteCount(), "size " + size);
+        }
+    }
+
+    @Test
+    public void testDistinctPrefixesSaveComparisons() {
+        Integer[] values = new Random(2).ints(2000).boxed().toArray(Integer[]::new);
+        HybridSort<Integer> hybridSort = new HybridSort<>(8, Comparator.<Integer>naturalOrder());
+        hybridSort.setKeyPrefix(KeyPrefix.INTEGER);
+        ArraySortList<Integer> sortList = new ArraySortList<>(values);
+        hybridSort.sort(sortList);
+
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sortList.toArray());
+        // Distinct integers have distinct prefixes, so the comparator is never called
+        assertEquals(0, hybridSort.getComparisonsCount());
+    }
+}
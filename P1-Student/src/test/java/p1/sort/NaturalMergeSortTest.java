@@ -0,0 +1,102 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the natural merge mode of {@link HybridSort}.
+ */
+public class NaturalMergeSortTest {
+
+    /**
+     * A value with a key that is used for sorting and an id that shows whether equal keys keep their order.
+     */
+    private record Entry(int key, int id) {
+    }
+
+    /**
+     * Returns a {@link HybridSort} in natural merge mode with the given k-value.
+     */
+    private static <T> HybridSort<T> naturalMergeSort(int k, Comparator<T> comparator) {
+        HybridSort<T> hybridSort = new HybridSort<>(k, comparator);
+        hybridSort.setBaseCase(BaseCase.INSERTION);
+        hybridSort.setNaturalMerge(true);
+        return hybridSort;
+    }
+
+    @Test
+    public void testIsStable() {
+        Comparator<Entry> comparator = Comparator.comparingInt(Entry::key);
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 31, 32, 33, 5000}) {
+            Entry[] entries = new Entry[size];
+            for (int i = 0; i < size; i++) {
+                entries[i] = new Entry(random.nextInt(20), i);
+            }
+            // Create some long runs
+            Arrays.sort(entries, size / 3, size / 2, comparator);
+            Entry[] expected = entries.clone();
+            Arrays.sort(expected, comparator);
+
+            ArraySortList<Entry> sortList = new ArraySortList<>(entries);
+            naturalMergeSort(32, comparator).sort(sortList);
+            assertArrayEquals(expected, sortList.toArray(), "size " + size);
+        }
+    }
+
+    @Test
+    public void testSortedInputNeedsLinearComparisons() {
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+
+        HybridSort<Integer> hybridSort = naturalMergeSort(32, Comparator.<Integer>naturalOrder());
+        ArraySortList<Integer> sortList = new ArraySortList<>(values);
+        hybridSort.sort(sortList);
+
+        assertArrayEquals(values, sortList.toArray());
+        assertEquals(values.length - 1, hybridSort.getComparisonsCount());
+        assertEquals(0, sortList.getWriteCount());
+    }
+
+    @Test
+    public void testDescendingInputIsReversed() {
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values.length - i;
+        }
+
+        HybridSort<Integer> hybridSort = naturalMergeSort(32, Comparator.<Integer>naturalOrder());
+        ArraySortList<Integer> sortList = new ArraySortList<>(values);
+        hybridSort.sort(sortList);
+
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sortList.toArray());
+        assertEquals(values.length - 1, hybridSort.getComparisonsCount());
+    }
+
+    @Test
+    public void testUncountedListIsSorted() {
+        Integer[] values = new Integer[500];
+        Random random = new Random(2);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(100);
+        }
+
+        HybridSort<Integer> hybridSort = naturalMergeSort(16, Comparator.<Integer>naturalOrder());
+        ArraySortList<Integer> sortList = new ArraySortList<>(values, false);
+        hybridSort.sort(sortList);
+
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sortList.toArray());
+        assertEquals(0, hybridSort.getComparisonsCount());
+    }
+}
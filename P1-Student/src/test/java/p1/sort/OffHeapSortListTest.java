@@ -0,0 +1,127 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link OffHeapSortList}.
+ */
+public class OffHeapSortListTest {
+
+    /**
+     * Returns a layout that stores an {@code int} value at the start of a record of the given width.
+     */
+    private static FixedWidthLayout<Integer> paddedLayout(int width) {
+        return new FixedWidthLayout<>() {
+            @Override
+            public int width() {
+                return width;
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer value) {
+                buffer.putInt(offset, value);
+                buffer.put(offset + width - 1, (byte) 0x7F);
+            }
+        };
+    }
+
+    @Test
+    public void testAllocateAndSort() {
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 100}) {
+            OffHeapSortList<Integer> sortList = OffHeapSortList.allocate(FixedWidthLayout.INT, size);
+            Integer[] values = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt();
+                sortList.set(i, values[i]);
+            }
+            assertEquals(size, sortList.getWriteCount());
+
+            new HybridSort<>(4, Comparator.<Integer>naturalOrder()).sort(sortList);
+
+            Arrays.sort(values);
+            assertArrayEquals(values, sortList.toArray(), "size " + size);
+        }
+    }
+
+    @Test
+    public void testWideLayout() {
+        // Records of 256 bytes used to overflow the int offset of a full segment
+        FixedWidthLayout<Integer> layout = paddedLayout(256);
+        OffHeapSortList<Integer> sortList = OffHeapSortList.allocate(layout, 1000);
+        for (int i = 0; i < 1000; i++) {
+            sortList.set(i, 999 - i);
+        }
+
+        new HybridSort<>(8, Comparator.<Integer>naturalOrder()).sort(sortList);
+
+        Integer[] expected = new Integer[1000];
+        Arrays.setAll(expected, i -> i);
+        assertArrayEquals(expected, sortList.toArray());
+    }
+
+    @Test
+    public void testMapSortsFileInPlace() throws IOException {
+        Path file = Files.createTempFile("off-heap", ".bin");
+        try {
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+                for (int i = 0; i < 50; i++) {
+                    out.writeInt((i * 37) % 50);
+                }
+            }
+
+            OffHeapSortList<Integer> sortList = OffHeapSortList.map(file, FixedWidthLayout.INT, ByteOrder.BIG_ENDIAN);
+            assertEquals(50, sortList.getSize());
+            new HybridSort<>(4, Comparator.<Integer>naturalOrder()).sort(sortList);
+            sortList.force();
+
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+                for (int i = 0; i < 50; i++) {
+                    assertEquals(i, in.readInt());
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testMapRejectsPartialElements() throws IOException {
+        Path file = Files.createTempFile("off-heap", ".bin");
+        try {
+            Files.write(file, new byte[6]);
+            assertThrows(IllegalArgumentException.class, () -> OffHeapSortList.map(file, FixedWidthLayout.INT));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> OffHeapSortList.allocate(FixedWidthLayout.INT, -1));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapSortList.allocate(paddedLayout(0), 1));
+
+        OffHeapSortList<Integer> sortList = OffHeapSortList.allocate(FixedWidthLayout.INT, 2);
+        assertThrows(IndexOutOfBoundsException.class, () -> sortList.get(2));
+        assertThrows(NullPointerException.class, () -> sortList.set(0, null));
+        assertThrows(UnsupportedOperationException.class, () -> sortList.remove(0));
+    }
+}
@@ -0,0 +1,70 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IntHybridSort} and {@link LongHybridSort}.
+ */
+public class PrimitiveHybridSortTest {
+
+    @Test
+    public void testIntSortsRandomValues() {
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 15, 16, 17, 1000}) {
+            int[] values = random.ints(size).toArray();
+            IntSortList sortList = new IntSortList(values);
+            new IntHybridSort(8).sort(sortList);
+
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, sortList.toIntArray(), "size " + size);
+        }
+    }
+
+    @Test
+    public void testLongSortsRandomValues() {
+        Random random = new Random(2);
+        for (int size : new int[]{0, 1, 2, 15, 16, 17, 1000}) {
+            long[] values = random.longs(size).toArray();
+            LongSortList sortList = new LongSortList(values);
+            new LongHybridSort(8).sort(sortList);
+
+            long[] expected = values.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, sortList.toLongArray(), "size " + size);
+        }
+    }
+
+    @Test
+    public void testIntSortsOtherSortListThroughUncountedCopy() {
+        Integer[] values = {5, -3, 9, 0, -3, 7};
+        ArraySortList<Integer> sortList = new ArraySortList<>(values);
+        new IntHybridSort(2).sort(sortList);
+
+        assertArrayEquals(new Integer[]{-3, -3, 0, 5, 7, 9}, sortList.toArray());
+        assertEquals(values.length, sortList.getReadCount());
+        assertEquals(values.length, sortList.getWriteCount());
+    }
+
+    @Test
+    public void testUncountedListCountsNothing() {
+        IntSortList sortList = new IntSortList(new int[]{3, 1, 2}, false);
+        new IntHybridSort(2).sort(sortList);
+
+        assertArrayEquals(new int[]{1, 2, 3}, sortList.toIntArray());
+        assertEquals(0, sortList.getReadCount());
+        assertEquals(0, sortList.getWriteCount());
+    }
+
+    @Test
+    public void testSetNullThrows() {
+        IntSortList sortList = new IntSortList(1);
+        assertThrows(NullPointerException.class, () -> sortList.set(0, null));
+        assertThrows(UnsupportedOperationException.class, () -> sortList.remove(0));
+    }
+}
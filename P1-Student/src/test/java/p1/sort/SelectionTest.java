@@ -0,0 +1,115 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link Selection}.
+ */
+public class SelectionTest {
+
+    /**
+     * The sizes of the lists that are tested.
+     */
+    private static final int[] SIZES = {1, 2, 3, 16, 17, 100, 1000};
+
+    /**
+     * Returns random values with some duplicates.
+     */
+    private static Integer[] randomValues(int size, Random random) {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(size);
+        }
+        return values;
+    }
+
+    @Test
+    public void testNthElement() {
+        Random random = new Random(1);
+        for (int size : SIZES) {
+            Integer[] values = randomValues(size, random);
+            Integer[] sorted = values.clone();
+            Arrays.sort(sorted);
+
+            for (int n : new int[]{0, size / 2, size - 1}) {
+                ArraySortList<Integer> sortList = new ArraySortList<>(values);
+                new Selection<>(Comparator.<Integer>naturalOrder()).nthElement(sortList, n);
+
+                Integer[] actual = sortList.toArray();
+                assertEquals(sorted[n], actual[n], "size " + size + ", n " + n);
+                for (int i = 0; i < size; i++) {
+                    assertTrue(i < n ? actual[i] <= actual[n] : actual[i] >= actual[n], "size " + size + ", n " + n);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNthElementRejectsInvalidIndex() {
+        Selection<Integer> selection = new Selection<>(Comparator.<Integer>naturalOrder());
+        ArraySortList<Integer> sortList = new ArraySortList<>(new Integer[]{1, 2});
+        assertThrows(IndexOutOfBoundsException.class, () -> selection.nthElement(sortList, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> selection.nthElement(sortList, 2));
+    }
+
+    @Test
+    public void testPartialSort() {
+        Random random = new Random(2);
+        for (int size : SIZES) {
+            Integer[] values = randomValues(size, random);
+            Integer[] sorted = values.clone();
+            Arrays.sort(sorted);
+
+            for (int k : new int[]{0, 1, size / 2, size}) {
+                ArraySortList<Integer> sortList = new ArraySortList<>(values);
+                new Selection<>(Comparator.<Integer>naturalOrder()).partialSort(sortList, k);
+                assertArrayEquals(Arrays.copyOf(sorted, k), Arrays.copyOf(sortList.toArray(), k),
+                    "size " + size + ", k " + k);
+            }
+        }
+    }
+
+    @Test
+    public void testTopK() {
+        Random random = new Random(3);
+        for (int size : SIZES) {
+            Integer[] values = randomValues(size, random);
+            Integer[] sorted = values.clone();
+            Arrays.sort(sorted);
+
+            for (int k : new int[]{0, 1, size / 2, size}) {
+                ArraySortList<Integer> sortList = new ArraySortList<>(values);
+                Selection<Integer> selection = new Selection<>(Comparator.<Integer>naturalOrder());
+                SortList<Integer> top = selection.topK(sortList, k);
+
+                assertArrayEquals(Arrays.copyOf(sorted, k), top.toArray(), "size " + size + ", k " + k);
+                assertArrayEquals(values, sortList.toArray(), "the list has been modified");
+                assertEquals(0, sortList.getWriteCount());
+                if (k == 0) {
+                    assertEquals(0, selection.getComparisonsCount());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTopKZeroOfEmptyList() {
+        SortList<Integer> top = new Selection<>(Comparator.<Integer>naturalOrder()).topK(new ArraySortList<>(0), 0);
+        assertEquals(0, top.getSize());
+    }
+
+    @Test
+    public void testRejectsInvalidK() {
+        Selection<Integer> selection = new Selection<>(Comparator.<Integer>naturalOrder());
+        ArraySortList<Integer> sortList = new ArraySortList<>(new Integer[]{1, 2});
+        assertThrows(IllegalArgumentException.class, () -> selection.topK(sortList, -1));
+        assertThrows(IllegalArgumentException.class, () -> selection.topK(sortList, 3));
+        assertThrows(IllegalArgumentException.class, () -> selection.partialSort(sortList, 3));
+    }
+}
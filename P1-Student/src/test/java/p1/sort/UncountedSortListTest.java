@@ -0,0 +1,95 @@
+package p1.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for sorting an uncounted {@link ArraySortList} with {@link HybridSort}.
+ */
+public class UncountedSortListTest {
+
+    /**
+     * A value with a key that is used for sorting and an id that shows whether equal keys keep their order.
+     */
+    private record Entry(int key, int id) {
+    }
+
+    /**
+     * Returns random entries with few distinct keys.
+     */
+    private static Entry[] entries(int size, Random random) {
+        Entry[] entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry(random.nextInt(10), i);
+        }
+        return entries;
+    }
+
+    @Test
+    public void testCountsNothing() {
+        Random random = new Random(1);
+        AtomicInteger calls = new AtomicInteger();
+        Comparator<Entry> comparator = (a, b) -> {
+            calls.incrementAndGet();
+            return Integer.compare(a.key(), b.key());
+        };
+
+        for (int size : new int[]{0, 1, 2, 16, 1000}) {
+            Entry[] entries = entries(size, random);
+            Entry[] expected = entries.clone();
+            Arrays.sort(expected, comparator);
+
+            ArraySortList<Entry> sortList = new ArraySortList<>(entries, false);
+            HybridSort<Entry> hybridSort = new HybridSort<>(8, comparator);
+            calls.set(0);
+            hybridSort.sort(sortList);
+
+            assertArrayEquals(expected, sortList.toArray(), "size " + size);
+            assertEquals(0, sortList.getReadCount(), "size " + size);
+            assertEquals(0, sortList.getWriteCount(), "size " + size);
+            assertEquals(0, hybridSort.getComparisonsCount(), "size " + size);
+            if (size > 1) {
+                assertTrue(calls.get() > 0, "the comparator has not been called");
+            }
+        }
+    }
+
+    @Test
+    public void testIsStableInAllModes() {
+        Comparator<Entry> comparator = Comparator.comparingInt(Entry::key);
+        Entry[] entries = entries(5000, new Random(2));
+        Entry[] expected = entries.clone();
+        Arrays.sort(expected, comparator);
+
+        HybridSort<Entry> natural = new HybridSort<>(16, comparator);
+        natural.setNaturalMerge(true);
+        HybridSort<Entry> parallel = new HybridSort<>(16, comparator);
+        parallel.setParallelThreshold(64);
+
+        for (HybridSort<Entry> hybridSort : Arrays.asList(new HybridSort<>(16, comparator), natural, parallel)) {
+            ArraySortList<Entry> sortList = new ArraySortList<>(entries, false);
+            hybridSort.sort(sortList);
+            assertArrayEquals(expected, sortList.toArray());
+        }
+    }
+
+    @Test
+    public void testCountingListIsInstrumented() {
+        Integer[] values = {3, 1, 2};
+        ArraySortList<Integer> sortList = new ArraySortList<>(values, true);
+        HybridSort<Integer> hybridSort = new HybridSort<>(0, Comparator.<Integer>naturalOrder());
+        hybridSort.sort(sortList);
+
+        assertArrayEquals(new Integer[]{1, 2, 3}, sortList.toArray());
+        assertTrue(sortList.isCounting());
+        assertTrue(sortList.getReadCount() > 0);
+        assertTrue(sortList.getWriteCount() > 0);
+        assertTrue(hybridSort.getComparisonsCount() > 0);
+    }
+}
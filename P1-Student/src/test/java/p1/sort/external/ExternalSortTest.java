@@ -0,0 +1,180 @@
+package p1.sort.external;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.HybridSort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ExternalSort}.
+ */
+public class ExternalSortTest {
+
+    /**
+     * Returns an {@link ExternalSort} for {@link Integer} values with the given chunk size and a fan-in of 2.
+     */
+    private static ExternalSort<Integer> externalSort(int chunkSize, RecordCodec<Integer> codec, Path tempDirectory) {
+        Comparator<Integer> comparator = Comparator.naturalOrder();
+        ExternalSort<Integer> externalSort = new ExternalSort<>(new HybridSort<>(4, comparator), comparator, codec);
+        externalSort.setChunkSize(chunkSize);
+        externalSort.setFanIn(2);
+        externalSort.setBufferSize(64);
+        externalSort.setTempDirectory(tempDirectory);
+        return externalSort;
+    }
+
+    /**
+     * Sorts the given values with the given {@link ExternalSort} and returns the result.
+     */
+    private static <T> Object[] sort(ExternalSort<T> externalSort, RecordCodec<T> codec, T[] values)
+        throws IOException {
+        ByteArrayOutputStream input = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(input);
+        for (T value : values) {
+            codec.write(value, data);
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        externalSort.sort(new ByteArrayInputStream(input.toByteArray()), output);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(output.toByteArray()));
+        Object[] result = new Object[values.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = codec.read(in);
+        }
+        assertEquals(0, in.available(), "the output contains more values than the input");
+        return result;
+    }
+
+    /**
+     * Returns whether the given directory is empty and deletes it afterwards.
+     */
+    private static boolean deleteIfEmpty(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            if (files.findAny().isPresent()) {
+                return false;
+            }
+        }
+        Files.delete(directory);
+        return true;
+    }
+
+    @Test
+    public void testSortsWithSeveralMergeRounds() throws IOException {
+        Path tempDirectory = Files.createTempDirectory("external-sort");
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 7, 8, 9, 100, 1000}) {
+            Integer[] values = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(50) - 25;
+            }
+            Integer[] expected = values.clone();
+            Arrays.sort(expected);
+
+            // 8 values per chunk and a fan-in of 2 need several merge rounds for the larger sizes
+            ExternalSort<Integer> externalSort = externalSort(8, RecordCodec.INTEGER, tempDirectory);
+            assertArrayEquals(expected, sort(externalSort, RecordCodec.INTEGER, values), "size " + size);
+            if (size > 8) {
+                // Only the merges of several runs count their comparisons
+                assertTrue(externalSort.getComparisonsCount() > 0, "size " + size);
+            }
+        }
+        assertTrue(deleteIfEmpty(tempDirectory), "the temporary files have not been deleted");
+    }
+
+    @Test
+    public void testSortsStrings() throws IOException {
+        Path tempDirectory = Files.createTempDirectory("external-sort");
+        String[] values = {"pear", "", "apple", "\u00e4pfel", "banana", "apple", "cherry"};
+        String[] expected = values.clone();
+        Arrays.sort(expected);
+
+        Comparator<String> comparator = Comparator.naturalOrder();
+        ExternalSort<String> externalSort = new ExternalSort<>(new HybridSort<>(2, comparator), comparator,
+            RecordCodec.STRING);
+        externalSort.setChunkSize(2);
+        externalSort.setFanIn(2);
+        externalSort.setTempDirectory(tempDirectory);
+        assertArrayEquals(expected, sort(externalSort, RecordCodec.STRING, values));
+        assertTrue(deleteIfEmpty(tempDirectory), "the temporary files have not been deleted");
+    }
+
+    @Test
+    public void testSortsFiles() throws IOException {
+        Path tempDirectory = Files.createTempDirectory("external-sort");
+        Path input = Files.createTempFile("input", ".bin");
+        Path output = Files.createTempFile("output", ".bin");
+        try {
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(input))) {
+                for (int i = 0; i < 50; i++) {
+                    out.writeInt((i * 37) % 50);
+                }
+            }
+
+            externalSort(5, RecordCodec.INTEGER, tempDirectory).sort(input, output);
+
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(output))) {
+                for (int i = 0; i < 50; i++) {
+                    assertEquals(i, in.readInt());
+                }
+                assertEquals(0, in.available());
+            }
+        } finally {
+            Files.delete(input);
+            Files.delete(output);
+        }
+        assertTrue(deleteIfEmpty(tempDirectory), "the temporary files have not been deleted");
+    }
+
+    @Test
+    public void testDeletesRunsIfMergeFails() throws IOException {
+        Path tempDirectory = Files.createTempDirectory("external-sort");
+        int size = 64;
+
+        // Spilling the runs writes every value once, so the first merge round fails after a few values
+        RecordCodec<Integer> failingCodec = new RecordCodec<>() {
+            private int writes;
+
+            @Override
+            public void write(Integer value, DataOutput out) throws IOException {
+                if (++writes > size + 20) {
+                    throw new IOException("disk full");
+                }
+                RecordCodec.INTEGER.write(value, out);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return RecordCodec.INTEGER.read(in);
+            }
+        };
+
+        Integer[] values = new Integer[size];
+        Arrays.fill(values, 1);
+        ExternalSort<Integer> externalSort = externalSort(4, failingCodec, tempDirectory);
+        assertThrows(IOException.class, () -> sort(externalSort, RecordCodec.INTEGER, values));
+        assertTrue(deleteIfEmpty(tempDirectory), "the runs of the failed merge round have not been deleted");
+    }
+
+    @Test
+    public void testRejectsInvalidSettings() {
+        ExternalSort<Integer> externalSort = externalSort(1, RecordCodec.INTEGER, null);
+        assertThrows(IllegalArgumentException.class, () -> externalSort.setChunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> externalSort.setFanIn(1));
+        assertThrows(IllegalArgumentException.class, () -> externalSort.setBufferSize(0));
+    }
+}
@@ -0,0 +1,93 @@
+package p1.sort.radix;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.ArraySortList;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AmericanFlagSort}.
+ */
+public class AmericanFlagSortTest {
+
+    /**
+     * Characters from several ranges, including the high and low halves of a surrogate pair and a character whose
+     * high byte is the same as the one of the Latin characters.
+     */
+    private static final String CHARACTERS = "abcAB z\u00e4\u00ff\u0100\u4e2d\ud83d\ude00\uffff";
+
+    /**
+     * Returns random strings of up to the given length over {@link #CHARACTERS}.
+     */
+    private static String[] randomStrings(Random random, int size, int maxLength) {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(maxLength + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+            }
+            values[i] = builder.toString();
+        }
+        return values;
+    }
+
+    @Test
+    public void testMatchesCompareTo() {
+        Random random = new Random(1);
+        for (int cutoff : new int[]{1, 16}) {
+            for (int size : new int[]{0, 1, 2, 15, 16, 17, 2000}) {
+                String[] values = randomStrings(random, size, 6);
+                String[] expected = values.clone();
+                Arrays.sort(expected);
+
+                AmericanFlagSort sort = new AmericanFlagSort();
+                sort.setCutoff(cutoff);
+                ArraySortList<String> sortList = new ArraySortList<>(values);
+                sort.sort(sortList);
+                assertArrayEquals(expected, sortList.toArray(), "cutoff " + cutoff + ", size " + size);
+            }
+        }
+    }
+
+    @Test
+    public void testSortsEqualAndEmptyStrings() {
+        String[] values = new String[100];
+        Arrays.fill(values, 0, 50, "same");
+        Arrays.fill(values, 50, 100, "");
+        AmericanFlagSort sort = new AmericanFlagSort();
+        sort.setCutoff(1);
+        ArraySortList<String> sortList = new ArraySortList<>(values);
+        sort.sort(sortList);
+
+        String[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sortList.toArray());
+    }
+
+    @Test
+    public void testSkipsHighBytesOfLatinCharacters() {
+        List<String> letters = Arrays.asList("abcdefghijklmnopqrstuvwxyz".split(""));
+        Collections.shuffle(letters, new Random(2));
+        String[] values = letters.toArray(String[]::new);
+        int size = values.length;
+
+        AmericanFlagSort sort = new AmericanFlagSort();
+        sort.setCutoff(2);
+        ArraySortList<String> sortList = new ArraySortList<>(values);
+        sort.sort(sortList);
+
+        String[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sortList.toArray());
+        // The high bytes are only counted, so only the pass over the low bytes permutes the elements
+        assertTrue(sortList.getReadCount() <= 3 * size, "reads: " + sortList.getReadCount());
+        assertTrue(sortList.getWriteCount() <= size, "writes: " + sortList.getWriteCount());
+        assertEquals(0, sort.getComparisonsCount());
+    }
+}
@@ -0,0 +1,94 @@
+package p1.sort.radix;
+
+import org.junit.jupiter.api.Test;
+import p1.card.Card;
+import p1.card.CardColor;
+import p1.comparator.CardComparator;
+import p1.sort.ArraySortList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CompositeIndexExtractor} and {@link CardIndexExtractor}.
+ */
+public class CompositeIndexExtractorTest {
+
+    /**
+     * A record with two keys.
+     */
+    private record Entry(int major, String minor, int id) {
+    }
+
+    @Test
+    public void testPositionsAndRadix() {
+        CompositeIndexExtractor<Entry> extractor = new CompositeIndexExtractor<>(
+            CompositeIndexExtractor.component(Entry::minor, new LatinStringIndexExtractor(), 2),
+            CompositeIndexExtractor.digit(Entry::major, 5)
+        );
+        assertEquals(3, extractor.getMaxPositions());
+        assertEquals(new LatinStringIndexExtractor().getRadix(), extractor.getRadix());
+        assertEquals(1, extractor.extractIndex(new Entry(4, "ab", 0), 0));
+        assertEquals(0, extractor.extractIndex(new Entry(4, "ab", 0), 1));
+        assertEquals(4, extractor.extractIndex(new Entry(4, "ab", 0), 2));
+        assertEquals(0, extractor.extractIndex(new Entry(4, "ab", 0), 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> extractor.extractIndex(new Entry(0, "", 0), -1));
+    }
+
+    @Test
+    public void testRejectsInvalidComponents() {
+        assertThrows(IllegalArgumentException.class, CompositeIndexExtractor<Entry>::new);
+        RadixIndexExtractor<Entry> extractor = CompositeIndexExtractor.<Entry>digit(Entry::major, 5).extractor();
+        assertThrows(IllegalArgumentException.class, () -> new CompositeIndexExtractor.Component<>(extractor, 0));
+    }
+
+    @Test
+    public void testSortsByAllKeysStably() {
+        CompositeIndexExtractor<Entry> extractor = new CompositeIndexExtractor<>(
+            CompositeIndexExtractor.digit(entry -> entry.minor().charAt(0) - 'a', 3),
+            CompositeIndexExtractor.digit(Entry::major, 4)
+        );
+        Comparator<Entry> comparator = Comparator.comparingInt(Entry::major).thenComparing(Entry::minor);
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 500}) {
+            Entry[] entries = new Entry[size];
+            for (int i = 0; i < size; i++) {
+                entries[i] = new Entry(random.nextInt(4), String.valueOf((char) ('a' + random.nextInt(3))), i);
+            }
+            Entry[] expected = entries.clone();
+            Arrays.sort(expected, comparator);
+
+            for (BucketStrategy strategy : BucketStrategy.values()) {
+                RadixSort<Entry> radixSort = new RadixSort<>(extractor.getRadix(), extractor, strategy);
+                radixSort.setMaxInputLength(extractor.getMaxPositions());
+                ArraySortList<Entry> sortList = new ArraySortList<>(entries);
+                radixSort.sort(sortList);
+                assertArrayEquals(expected, sortList.toArray(), strategy + ", size " + size);
+            }
+        }
+    }
+
+    @Test
+    public void testCardIndexExtractorMatchesCardComparator() {
+        Random random = new Random(2);
+        Card[] cards = new Card[1000];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = new Card(CardColor.values()[random.nextInt(4)], 2 + random.nextInt(12));
+        }
+        Card[] expected = cards.clone();
+        Arrays.sort(expected, new CardComparator());
+
+        CardIndexExtractor extractor = new CardIndexExtractor();
+        assertEquals(2, extractor.getMaxPositions());
+        assertEquals(12, extractor.getRadix());
+
+        RadixSort<Card> radixSort = new RadixSort<>(extractor);
+        radixSort.setMaxInputLength(extractor.getMaxPositions());
+        ArraySortList<Card> sortList = new ArraySortList<>(cards);
+        radixSort.sort(sortList);
+        assertArrayEquals(expected, sortList.toArray());
+    }
+}
@@ -0,0 +1,88 @@
+package p1.sort.radix;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.ArraySortList;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link FixedWidthIndexExtractor FixedWidthIndexExtractors}.
+ */
+public class FixedWidthIndexExtractorTest {
+
+    /**
+     * Sorts the given values with {@link RadixSort} and the given extractor.
+     */
+    private static <T> T[] radixSort(T[] values, RadixIndexExtractor<T> extractor) {
+        RadixSort<T> radixSort = new RadixSort<>(extractor.getRadix(), extractor, BucketStrategy.COUNTING);
+        ArraySortList<T> sortList = new ArraySortList<>(values);
+        radixSort.sort(sortList);
+        return sortList.toArray();
+    }
+
+    @Test
+    public void testIntKeys() {
+        Random random = new Random(1);
+        Integer[] values = new Integer[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+        values[0] = Integer.MIN_VALUE;
+        values[1] = Integer.MAX_VALUE;
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+
+        for (int bits : new int[]{1, 5, 8, 16}) {
+            IntKeyIndexExtractor extractor = new IntKeyIndexExtractor(bits);
+            assertEquals((32 + bits - 1) / bits, extractor.getMaxPositions());
+            assertArrayEquals(expected, radixSort(values, extractor), "bits " + bits);
+        }
+    }
+
+    @Test
+    public void testLongKeys() {
+        Random random = new Random(2);
+        Long[] values = new Long[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+        values[0] = Long.MIN_VALUE;
+        Long[] expected = values.clone();
+        Arrays.sort(expected);
+
+        assertArrayEquals(expected, radixSort(values, new LongKeyIndexExtractor()));
+        assertArrayEquals(expected, radixSort(values, new LongKeyIndexExtractor(11)));
+    }
+
+    @Test
+    public void testFloatingPointKeysIncludingSpecialValues() {
+        Random random = new Random(3);
+        Double[] doubles = new Double[300];
+        Float[] floats = new Float[300];
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = random.nextGaussian() * 1e6;
+            floats[i] = (float) random.nextGaussian();
+        }
+        Double[] specialDoubles = {-0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.MIN_VALUE};
+        System.arraycopy(specialDoubles, 0, doubles, 0, specialDoubles.length);
+        Float[] specialFloats = {-0.0f, 0.0f, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, -Float.MAX_VALUE};
+        System.arraycopy(specialFloats, 0, floats, 0, specialFloats.length);
+
+        Double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        Float[] expectedFloats = floats.clone();
+        Arrays.sort(expectedFloats);
+
+        assertArrayEquals(expectedDoubles, radixSort(doubles, new DoubleKeyIndexExtractor()));
+        assertArrayEquals(expectedFloats, radixSort(floats, new FloatKeyIndexExtractor(4)));
+    }
+
+    @Test
+    public void testInvalidBitsPerDigitThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new IntKeyIndexExtractor(0));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleKeyIndexExtractor(17));
+    }
+}
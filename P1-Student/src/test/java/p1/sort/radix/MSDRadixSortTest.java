@@ -0,0 +1,88 @@
+package p1.sort.radix;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.ArraySortList;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MSDRadixSort}.
+ */
+public class MSDRadixSortTest {
+
+    /**
+     * Returns random strings of up to the given length that consist of the letters a to e in both cases.
+     */
+    private static String[] randomStrings(Random random, int size, int maxLength) {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(maxLength + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append("abcdeABCDE".charAt(random.nextInt(10)));
+            }
+            values[i] = builder.toString();
+        }
+        return values;
+    }
+
+    /**
+     * Sorts the given values using {@link RadixSort}, which defines the expected order.
+     */
+    private static String[] sortWithRadixSort(String[] values, int maxInputLength) {
+        RadixSort<String> radixSort = new RadixSort<>(new LatinStringIndexExtractor());
+        radixSort.setMaxInputLength(maxInputLength);
+        ArraySortList<String> sortList = new ArraySortList<>(values);
+        radixSort.sort(sortList);
+        return sortList.toArray();
+    }
+
+    @Test
+    public void testMatchesRadixSortOrder() {
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 15, 16, 500}) {
+            String[] values = randomStrings(random, size, 4);
+            MSDRadixSort<String> msdRadixSort = new MSDRadixSort<>(new LatinStringIndexExtractor());
+            msdRadixSort.setMaxInputLength(4);
+            ArraySortList<String> sortList = new ArraySortList<>(values);
+            msdRadixSort.sort(sortList);
+
+            assertArrayEquals(sortWithRadixSort(values, 4), sortList.toArray(), "size " + size);
+            assertEquals(size, sortList.getReadCount());
+            assertEquals(size, sortList.getWriteCount());
+        }
+    }
+
+    @Test
+    public void testParallelMatchesRadixSortOrder() {
+        String[] values = randomStrings(new Random(2), 5000, 5);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MSDRadixSort<String> msdRadixSort = new MSDRadixSort<>(new LatinStringIndexExtractor(), pool);
+            msdRadixSort.setMaxInputLength(5);
+            msdRadixSort.setCutoff(2);
+            msdRadixSort.setParallelThreshold(64);
+            ArraySortList<String> sortList = new ArraySortList<>(values);
+            msdRadixSort.sort(sortList);
+
+            assertArrayEquals(sortWithRadixSort(values, 5), sortList.toArray());
+            assertEquals(0, msdRadixSort.getComparisonsCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testInsertionSortCountsComparisons() {
+        MSDRadixSort<String> msdRadixSort = new MSDRadixSort<>(new LatinStringIndexExtractor());
+        msdRadixSort.setMaxInputLength(2);
+        ArraySortList<String> sortList = new ArraySortList<>(new String[]{"cb", "ab", "ca", "aa"});
+        msdRadixSort.sort(sortList);
+
+        assertArrayEquals(new String[]{"aa", "ab", "ca", "cb"}, sortList.toArray());
+        assertTrue(msdRadixSort.getComparisonsCount() > 0);
+    }
+}
@@ -0,0 +1,72 @@
+package p1.sort.radix;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.ArraySortList;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MultiKeyQuickSort}.
+ */
+public class MultiKeyQuickSortTest {
+
+    @Test
+    public void testMatchesCompareTo() {
+        String characters = "abAB z\u00e4\u4e2d\ud83d\ude00";
+        Random random = new Random(1);
+        for (int cutoff : new int[]{1, 16}) {
+            for (int size : new int[]{0, 1, 2, 15, 16, 17, 2000}) {
+                String[] values = new String[size];
+                for (int i = 0; i < size; i++) {
+                    StringBuilder builder = new StringBuilder("prefix");
+                    int length = random.nextInt(5);
+                    for (int j = 0; j < length; j++) {
+                        builder.append(characters.charAt(random.nextInt(characters.length())));
+                    }
+                    values[i] = builder.toString();
+                }
+                String[] expected = values.clone();
+                Arrays.sort(expected);
+
+                MultiKeyQuickSort sort = new MultiKeyQuickSort();
+                sort.setCutoff(cutoff);
+                ArraySortList<String> sortList = new ArraySortList<>(values);
+                sort.sort(sortList);
+                assertArrayEquals(expected, sortList.toArray(), "cutoff " + cutoff + ", size " + size);
+            }
+        }
+    }
+
+    @Test
+    public void testCountsEveryMedianComparisonOnce() {
+        String[] values = new String[16];
+        Arrays.fill(values, "a");
+        MultiKeyQuickSort sort = new MultiKeyQuickSort();
+        sort.sort(new ArraySortList<>(values));
+
+        // Two partitions (by 'a' and by the end of the strings), each with a median of three equal code units that
+        // needs 2 comparisons, followed by 16 comparisons with the pivot
+        assertEquals(2 * (2 + 16), sort.getComparisonsCount());
+    }
+
+    @Test
+    public void testMedianOfDistinctCodeUnits() {
+        // The median of "c", "a" and "b" needs 3 comparisons, followed by 16 comparisons with the pivot
+        String[] values = new String[16];
+        Arrays.fill(values, "b");
+        values[0] = "c";
+        values[15] = "a";
+        MultiKeyQuickSort sort = new MultiKeyQuickSort();
+        ArraySortList<String> sortList = new ArraySortList<>(values);
+        sort.sort(sortList);
+
+        String[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sortList.toArray());
+        // The 14 equal strings are fewer than the cutoff, so they are sorted by insertion sort with 13 comparisons
+        assertEquals(3 + 16 + 13, sort.getComparisonsCount());
+    }
+}
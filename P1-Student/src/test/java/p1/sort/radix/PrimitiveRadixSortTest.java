@@ -0,0 +1,73 @@
+package p1.sort.radix;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.ArraySortList;
+import p1.sort.IntSortList;
+import p1.sort.LongSortList;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IntRadixSort} and {@link LongRadixSort}.
+ */
+public class PrimitiveRadixSortTest {
+
+    @Test
+    public void testIntSortsNegativeAndPositiveValues() {
+        Random random = new Random(1);
+        for (int bits : new int[]{1, 3, 8, 16}) {
+            for (int size : new int[]{0, 1, 2, 1000}) {
+                int[] values = random.ints(size).toArray();
+                IntSortList sortList = new IntSortList(values);
+                new IntRadixSort(bits).sort(sortList);
+
+                int[] expected = values.clone();
+                Arrays.sort(expected);
+                assertArrayEquals(expected, sortList.toIntArray(), "bits " + bits + ", size " + size);
+            }
+        }
+    }
+
+    @Test
+    public void testLongSortsNegativeAndPositiveValues() {
+        Random random = new Random(2);
+        for (int bits : new int[]{1, 5, 8, 16}) {
+            long[] values = random.longs(500).toArray();
+            values[0] = Long.MIN_VALUE;
+            values[1] = Long.MAX_VALUE;
+            LongSortList sortList = new LongSortList(values);
+            new LongRadixSort(bits).sort(sortList);
+
+            long[] expected = values.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, sortList.toLongArray(), "bits " + bits);
+        }
+    }
+
+    @Test
+    public void testOtherSortListIsCopiedWithoutCounting() {
+        Integer[] values = {5, -3, 9, 0, -3, 7};
+        ArraySortList<Integer> sortList = new ArraySortList<>(values);
+        new IntRadixSort().sort(sortList);
+
+        assertArrayEquals(new Integer[]{-3, -3, 0, 5, 7, 9}, sortList.toArray());
+        assertEquals(values.length, sortList.getReadCount());
+        assertEquals(values.length, sortList.getWriteCount());
+
+        ArraySortList<Long> longSortList = new ArraySortList<>(new Long[]{2L, -1L, 0L});
+        new LongRadixSort().sort(longSortList);
+
+        assertArrayEquals(new Long[]{-1L, 0L, 2L}, longSortList.toArray());
+        assertEquals(3, longSortList.getReadCount());
+        assertEquals(3, longSortList.getWriteCount());
+    }
+
+    @Test
+    public void testInvalidBitsPerDigitThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new IntRadixSort(0));
+        assertThrows(IllegalArgumentException.class, () -> new LongRadixSort(17));
+    }
+}
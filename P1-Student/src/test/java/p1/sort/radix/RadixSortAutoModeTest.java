@@ -0,0 +1,89 @@
+package p1.sort.radix;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.ArraySortList;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the auto mode of {@link RadixSort}.
+ */
+public class RadixSortAutoModeTest {
+
+    /**
+     * Returns random strings of the given length that start with a common prefix and otherwise consist of the letters
+     * a to d.
+     */
+    private static String[] prefixedStrings(Random random, int size, String prefix, int length) {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder builder = new StringBuilder(prefix);
+            for (int j = 0; j < length; j++) {
+                builder.append((char) ('a' + random.nextInt(4)));
+            }
+            values[i] = builder.toString();
+        }
+        return values;
+    }
+
+    @Test
+    public void testSortsWithoutMaxInputLength() {
+        Random random = new Random(1);
+        Integer[] values = new Integer[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1_000_000);
+        }
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+
+        for (BucketStrategy strategy : BucketStrategy.values()) {
+            RadixSort<Integer> radixSort = new RadixSort<>(10, new IntegerIndexExtractor(10), strategy);
+            radixSort.setAutoMode(true);
+            ArraySortList<Integer> sortList = new ArraySortList<>(values);
+            radixSort.sort(sortList);
+            assertArrayEquals(expected, sortList.toArray(), strategy.toString());
+        }
+    }
+
+    @Test
+    public void testReadsInputOnceAndSkipsCommonPrefix() {
+        String[] values = prefixedStrings(new Random(2), 100, "xx", 2);
+        String[] expected = values.clone();
+        Arrays.sort(expected);
+
+        // One scan plus one read per remaining pass; the two passes of the common prefix are skipped
+        RadixSort<String> linkedList = new RadixSort<>(new LatinStringIndexExtractor());
+        linkedList.setAutoMode(true);
+        ArraySortList<String> sortList = new ArraySortList<>(values);
+        linkedList.sort(sortList);
+        assertArrayEquals(expected, sortList.toArray());
+        assertEquals(3 * values.length, sortList.getReadCount());
+        assertEquals(2 * values.length, sortList.getWriteCount());
+
+        // The first pass of the counting strategy reuses the values of the scan
+        RadixSort<String> counting = new RadixSort<>(26, new LatinStringIndexExtractor(), BucketStrategy.COUNTING);
+        counting.setAutoMode(true);
+        sortList = new ArraySortList<>(values);
+        counting.sort(sortList);
+        assertArrayEquals(expected, sortList.toArray());
+        assertEquals(2 * values.length, sortList.getReadCount());
+        assertEquals(2 * values.length, sortList.getWriteCount());
+    }
+
+    @Test
+    public void testEmptyAndSingleElementLists() {
+        RadixSort<String> radixSort = new RadixSort<>(new LatinStringIndexExtractor());
+        radixSort.setAutoMode(true);
+
+        ArraySortList<String> empty = new ArraySortList<>(new String[0]);
+        radixSort.sort(empty);
+        assertEquals(0, empty.getSize());
+
+        ArraySortList<String> single = new ArraySortList<>(new String[]{"abc"});
+        radixSort.sort(single);
+        assertArrayEquals(new String[]{"abc"}, single.toArray());
+    }
+}
@@ -0,0 +1,76 @@
+package p1.sort.radix;
+
+import org.junit.jupiter.api.Test;
+import p1.sort.ArraySortList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link BucketStrategy bucket strategies} of {@link RadixSort}.
+ */
+public class RadixSortTest {
+
+    /**
+     * Returns random strings of the given length that only consist of the letters a, b, A and B, so that many values
+     * are equal for the case-insensitive {@link LatinStringIndexExtractor}.
+     */
+    private static String[] randomStrings(Random random, int size, int length) {
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                builder.append("abAB".charAt(random.nextInt(4)));
+            }
+            values[i] = builder.toString();
+        }
+        return values;
+    }
+
+    @Test
+    public void testCountingIsStableAndMatchesLinkedList() {
+        Random random = new Random(1);
+        for (int size : new int[]{0, 1, 2, 100, 1000}) {
+            String[] values = randomStrings(random, size, 3);
+            String[] expected = values.clone();
+            Arrays.sort(expected, Comparator.comparing(String::toLowerCase));
+
+            for (BucketStrategy strategy : BucketStrategy.values()) {
+                RadixSort<String> radixSort = new RadixSort<>(26, new LatinStringIndexExtractor(), strategy);
+                radixSort.setMaxInputLength(3);
+                ArraySortList<String> sortList = new ArraySortList<>(values);
+                radixSort.sort(sortList);
+
+                assertArrayEquals(expected, sortList.toArray(), strategy + ", size " + size);
+                assertEquals(0, radixSort.getComparisonsCount());
+            }
+        }
+    }
+
+    @Test
+    public void testCountingSortsIntegers() {
+        Random random = new Random(2);
+        Integer[] values = new Integer[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(100_000);
+        }
+
+        RadixSort<Integer> radixSort = new RadixSort<>(10, new IntegerIndexExtractor(10), BucketStrategy.COUNTING);
+        radixSort.setMaxInputLength(5);
+        ArraySortList<Integer> sortList = new ArraySortList<>(values);
+        radixSort.sort(sortList);
+
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sortList.toArray());
+    }
+
+    @Test
+    public void testRadixLessThanExtractorRadixThrows() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new RadixSort<>(10, new LatinStringIndexExtractor(), BucketStrategy.COUNTING));
+    }
+}